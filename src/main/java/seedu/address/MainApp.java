@@ -22,8 +22,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormats;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookWriter;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -42,6 +43,7 @@ public class MainApp extends Application {
     protected UiManager ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundAddressBookWriter addressBookWriter;
     protected Model model;
     protected Config config;
 
@@ -58,12 +60,15 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = AddressBookFormats.open(userPrefs.getAddressBookFilePath(), config);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        model.setParallelFilterThreshold(config.getParallelFilterThreshold());
 
-        logic = new LogicManager(model, storage);
+        addressBookWriter = new BackgroundAddressBookWriter(storage, config.getSavePolicy(),
+                config.getSaveIntervalMillis(), config.getSyncIntervalMillis());
+        logic = new LogicManager(model, storage, addressBookWriter);
 
         ui = new UiManager(logic, errorMessage);
     }
@@ -188,5 +193,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            addressBookWriter.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -13,10 +13,33 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_INTERVAL_MILLIS = 2000;
+    public static final int DEFAULT_BACKUP_COUNT = 5;
+    public static final long DEFAULT_BACKUP_INTERVAL_MILLIS = 60 * 60 * 1000;
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 100_000;
+
+    /**
+     * When changes to the address book are written to disk.
+     */
+    public enum SavePolicy {
+        /** Write after every command that changes the address book. */
+        EVERY_COMMAND,
+        /** Write at most once per save interval, covering all changes made since the last write. */
+        INTERVAL,
+        /** Write only when the app exits. */
+        ON_EXIT
+    }
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private SavePolicy savePolicy = SavePolicy.EVERY_COMMAND;
+    private long saveIntervalMillis = DEFAULT_SAVE_INTERVAL_MILLIS;
+    private long syncIntervalMillis = 0;
+    private boolean isDataFileCompressed = false;
+    private int backupCount = DEFAULT_BACKUP_COUNT;
+    private long backupIntervalMillis = DEFAULT_BACKUP_INTERVAL_MILLIS;
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +57,62 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public SavePolicy getSavePolicy() {
+        return savePolicy;
+    }
+
+    public void setSavePolicy(SavePolicy savePolicy) {
+        this.savePolicy = savePolicy;
+    }
+
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
+    public long getSyncIntervalMillis() {
+        return syncIntervalMillis;
+    }
+
+    public void setSyncIntervalMillis(long syncIntervalMillis) {
+        this.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    public boolean isDataFileCompressed() {
+        return isDataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean isDataFileCompressed) {
+        this.isDataFileCompressed = isDataFileCompressed;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public void setBackupCount(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    public long getBackupIntervalMillis() {
+        return backupIntervalMillis;
+    }
+
+    public void setBackupIntervalMillis(long backupIntervalMillis) {
+        this.backupIntervalMillis = backupIntervalMillis;
+    }
+
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +126,20 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && savePolicy == otherConfig.savePolicy
+                && saveIntervalMillis == otherConfig.saveIntervalMillis
+                && syncIntervalMillis == otherConfig.syncIntervalMillis
+                && isDataFileCompressed == otherConfig.isDataFileCompressed
+                && backupCount == otherConfig.backupCount
+                && backupIntervalMillis == otherConfig.backupIntervalMillis
+                && parallelFilterThreshold == otherConfig.parallelFilterThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, savePolicy, saveIntervalMillis, syncIntervalMillis,
+                isDataFileCompressed, backupCount, backupIntervalMillis, parallelFilterThreshold);
     }
 
     @Override
@@ -60,6 +147,13 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("savePolicy", savePolicy)
+                .add("saveIntervalMillis", saveIntervalMillis)
+                .add("syncIntervalMillis", syncIntervalMillis)
+                .add("isDataFileCompressed", isDataFileCompressed)
+                .add("backupCount", backupCount)
+                .add("backupIntervalMillis", backupIntervalMillis)
+                .add("parallelFilterThreshold", parallelFilterThreshold)
                 .toString();
     }
 
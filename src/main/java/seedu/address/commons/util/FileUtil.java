@@ -1,10 +1,20 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
 
 /**
  * Writes and reads files
@@ -12,6 +22,10 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** Told of each temporary file whose contents have been forced, before it is renamed. */
+    private static Consumer<Path> contentsForcedListener = tempFile -> {};
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +89,93 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as by {@link #writeAtomically}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)), true);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code writer} writes, so that a crash part way through
+     * leaves either the old or the new contents, never a mix. The new contents are written to a temporary file
+     * next to {@code file} and forced onto the disk, which is then renamed over it. Some file systems do not
+     * write the contents of a file out before a rename that replaces another, so forcing them first is what keeps
+     * a crash from leaving {@code file} empty or cut short.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param isRenameForced whether to force the rename onto the disk before returning.
+     *     Otherwise it may be lost if the machine loses power soon after, leaving the old contents.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer, boolean isRenameForced) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel)) {
+                    @Override
+                    public void close() throws IOException {
+                        flush(); // the channel stays open until the contents have been forced
+                    }
+                };
+                writer.write(out);
+                out.flush();
+                channel.force(true);
+                contentsForcedListener.accept(tempFile);
+            }
+            moveReplacing(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        if (isRenameForced) {
+            forceDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Makes {@link #writeAtomically} tell {@code listener} of each temporary file whose contents it has forced,
+     * before renaming it. Meant for tests.
+     */
+    static void setContentsForcedListener(Consumer<Path> listener) {
+        contentsForcedListener = requireNonNull(listener);
+    }
+
+    /**
+     * Forces the contents of {@code file}, and its entry in its directory, onto the disk.
+     */
+    public static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, such as Windows, where renames need no forcing.
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}. Closing {@code out} only flushes it.
+         */
+        void write(OutputStream out) throws IOException;
     }
 
 }
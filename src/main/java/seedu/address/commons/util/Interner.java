@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, in the spirit of {@link String#intern()}.
+ * Equal values passed to {@link #intern(Object)} all come back as the same instance,
+ * so a large number of equal values can share one object.
+ *
+ * <p>Canonical instances are held strongly, so the pool should only be used for values with few distinct
+ * instances, such as skills or categories. It is safe to use from multiple threads.
+ *
+ * @param <T> type of the values, which must be immutable and have value-based {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, T> pool = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T canonical = pool.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool.
+     */
+    public int size() {
+        return pool.size();
+    }
+}
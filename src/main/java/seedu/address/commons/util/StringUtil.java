@@ -32,12 +32,34 @@ public class StringUtil {
         checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
 
         String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        String[] wordsInPreppedSentence = splitWords(preppedSentence);
 
         return Arrays.stream(wordsInPreppedSentence)
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Splits {@code sentence} into the words that {@link #containsWordIgnoreCase(String, String)} matches against.
+     */
+    public static String[] splitWords(String sentence) {
+        requireNonNull(sentence);
+        return sentence.split("\\s+");
+    }
+
+    /**
+     * Returns {@code word} folded so that two words are equal after folding
+     * if and only if they are equal by {@link String#equalsIgnoreCase(String)}.
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            // The same per-character comparison as String#equalsIgnoreCase
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
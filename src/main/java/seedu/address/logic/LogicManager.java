@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,6 +18,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookWriter;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,19 +30,35 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Version recorded before anything has been saved, so that the first command always saves. */
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final BackgroundAddressBookWriter writer;
     private final AddressBookParser addressBookParser;
     private final ConfirmationParser confirmationParser;
+    private long savedVersion = NOT_SAVED;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are saved to {@code storage} before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that hands changes to {@code writer} to be saved in the background,
+     * or saves them to {@code storage} before each command returns if {@code writer} is null.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookWriter writer) {
         this.model = model;
         this.storage = storage;
+        this.writer = writer;
+        model.setAddressBookBackups(storage);
         addressBookParser = new AddressBookParser();
         confirmationParser = new ConfirmationParser();
     }
@@ -53,17 +71,46 @@ public class LogicManager implements Logic {
         Command command = parseCommand(commandText);
 
         commandResult = command.execute(model);
+
+        long version = model.getAddressBookVersion();
+        if (writer != null) {
+            if (version != savedVersion) {
+                writer.submit(model.getAddressBook());
+                savedVersion = version;
+            }
+            // A background write that failed since the last command is reported with this one, which has run.
+            Optional<IOException> failure = writer.takeFailure();
+            if (failure.isPresent()) {
+                return new CommandResult(commandResult.getFeedbackToUser() + "\n" + toErrorMessage(failure.get()),
+                        commandResult.isShowHelp(), commandResult.isExit());
+            }
+            return commandResult;
+        }
+        if (version == savedVersion) {
+            // Nothing has changed since the last save, e.g. after list or find.
+            return commandResult;
+        }
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            savedVersion = version;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
 
         return commandResult;
     }
 
+    private static CommandException toCommandException(IOException ioe) {
+        return new CommandException(toErrorMessage(ioe), ioe);
+    }
+
+    private static String toErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     private Command parseCommand(String commandText) throws ParseException {
         if (model.hasPersonToDelete()) {
             return confirmationParser.parseCommand(commandText);
@@ -43,6 +43,10 @@ public class AddCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Employee added: %1$s";
     public static final String MESSAGE_DUPLICATE_PERSON = "Employee already exists: %1$s";
+    public static final String MESSAGE_DUPLICATE_EMAIL =
+            "Duplicate email detected. Please choose a unique email address.";
+    public static final String MESSAGE_DUPLICATE_PHONE =
+            "Duplicate phone number detected. Please choose a unique phone number.";
 
     private final Person toAdd;
 
@@ -61,6 +65,12 @@ public class AddCommand extends Command {
         if (model.hasPerson(toAdd)) {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSON, Messages.format(toAdd)));
         }
+        if (model.findPersonByEmail(toAdd.getEmail()).isPresent()) {
+            throw new CommandException(MESSAGE_DUPLICATE_EMAIL);
+        }
+        if (model.findPersonByPhone(toAdd.getPhone()).isPresent()) {
+            throw new CommandException(MESSAGE_DUPLICATE_PHONE);
+        }
 
         model.addPerson(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
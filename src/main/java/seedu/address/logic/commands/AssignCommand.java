@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGN_CATEGORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGN_CATEGORY_VALUE;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.HashSet;
 import java.util.List;
@@ -60,7 +59,7 @@ public class AssignCommand extends Command {
         Set<Category> personCategories = personToEdit.getCategories();
 
         for (Category personCategory : personCategories) {
-            if (personCategory.getCategory().contains(categoryObject.getCategory())) {
+            if (personCategory.getCategoryType() == categoryObject.getCategoryType()) {
                 throw new CommandException(String.format(MESSAGE_ERROR,
                         personToEdit.getName(), personCategory.getCategory(), personCategory.getValue()));
             }
@@ -73,7 +72,6 @@ public class AssignCommand extends Command {
                 updatedCategories, personToEdit.getSkills());
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(generateSuccessMessage(editedPerson));
     }
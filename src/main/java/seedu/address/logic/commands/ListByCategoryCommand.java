@@ -2,15 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
-import seedu.address.model.tag.Category;
+import seedu.address.model.tag.Category.CategoryType;
 
 /**
  * Lists persons grouped by a given category (role, team, department).
@@ -40,14 +36,25 @@ public class ListByCategoryCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+        int shownCount = model.getFilteredPersonList().size();
 
         // Count by group value; keep output stable with a case-insensitive, sorted map
         Map<String, Integer> groups = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
-        for (Person p : persons) {
-            String key = extractGroupKey(p, category);
-            groups.put(key, groups.getOrDefault(key, 0) + 1);
+        CategoryType type = toCategoryType(category);
+        int specifiedCount = 0;
+        if (type != null) {
+            // Visit values in natural order, so the spelling kept for values differing only in case is stable
+            Map<String, Integer> counts = new TreeMap<>(model.countFilteredPersonsByCategory(type));
+            for (Map.Entry<String, Integer> e : counts.entrySet()) {
+                groups.merge(normalize(e.getKey()), e.getValue(), Integer::sum);
+                specifiedCount += e.getValue();
+            }
+        }
+
+        // Each person has at most one value per category, so everyone else is unspecified
+        if (shownCount > specifiedCount) {
+            groups.merge(UNSPECIFIED, shownCount - specifiedCount, Integer::sum);
         }
 
         StringBuilder sb = new StringBuilder();
@@ -59,48 +66,14 @@ public class ListByCategoryCommand extends Command {
         return new CommandResult(sb.toString());
     }
 
-    /**
-     * Extracts the grouping key from a Person's categories.
-     * We look for a Category whose getCategory() equals one of "Role" | "Team" | "Department"
-     * (case-insensitive), and use its getValue(). If none, returns "(unspecified)".
-     */
-    private String extractGroupKey(Person person, String categoryKeyLower) {
-        if (person == null) {
-            return UNSPECIFIED;
-        }
-
-        final String label = toCanonicalLabel(categoryKeyLower); // "Role"/"Team"/"Department"
-        if (label == null) {
-            return UNSPECIFIED;
-        }
-
-        Collection<Category> cats = person.getCategories();
-        if (cats == null || cats.isEmpty()) {
-            return UNSPECIFIED;
-        }
-
-        for (Category c : cats) {
-            if (c == null) {
-                continue;
-            }
-            String catName = c.getCategory();
-            if (catName != null && catName.equalsIgnoreCase(label)) {
-                String value = c.getValue();
-                return normalize(value);
-            }
-        }
-
-        return UNSPECIFIED;
-    }
-
-    private String toCanonicalLabel(String keyLower) {
+    private CategoryType toCategoryType(String keyLower) {
         switch (keyLower) {
         case CATEGORY_ROLE:
-            return "Role";
+            return CategoryType.ROLE;
         case CATEGORY_TEAM:
-            return "Team";
+            return CategoryType.TEAM;
         case CATEGORY_DEPARTMENT:
-            return "Department";
+            return CategoryType.DEPARTMENT;
         default:
             return null;
         }
@@ -9,6 +9,7 @@ import java.util.function.Predicate;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesListFiltersPredicate;
 
 /**
  * Lists persons in the address book.
@@ -31,10 +32,11 @@ public class ListCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows persons, optionally filtered by skills and/or "
             + "category.\n"
-            + "Parameters: [s/SKILL]\n"
+            + "Parameters: [s/SKILL_OR_EXPRESSION]\n"
             + "Examples:\n"
             + "  list\n"
-            + "  list s/java\n";
+            + "  list s/java\n"
+            + "  list s/java AND (sql OR python) AND NOT csharp\n";
 
     // --- State ---
     private final List<String> skills; // for new s/ filtering
@@ -95,6 +97,12 @@ public class ListCommand extends Command {
             if (model.getFilteredPersonList().size() == 0) {
                 return new CommandResult(MESSAGE_FILTERED_NONE);
             }
+            return new CommandResult(MESSAGE_FILTERED_SUCCESS);
+        }
+
+        model.updateFilteredPersonList(new PersonMatchesListFiltersPredicate(skills, categories));
+        if (model.getFilteredPersonList().isEmpty()) {
+            return new CommandResult(MESSAGE_FILTERED_NONE);
         }
         return new CommandResult(MESSAGE_FILTERED_SUCCESS);
     }
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.predicate.QueryExpression;
+import seedu.address.model.person.predicate.QueryPredicate;
+
+/**
+ * Lists all persons in address book that satisfy a query over their fields,
+ * or explains how the persons would be found.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons that satisfy the query. "
+            + "Terms are FIELD:VALUE, where FIELD is name, email, phone, skill, dept, team or role, "
+            + "and are combined with AND, OR, NOT and parentheses. "
+            + "Start with \"explain\" to show how the persons would be found instead.\n"
+            + "Parameters: [explain] QUERY\n"
+            + "Example: " + COMMAND_WORD + " skill:java AND (team:alpha OR dept:eng) AND NOT role:intern";
+
+    public static final String MESSAGE_EXPLAIN = "Plan for %1$s:\n%2$s";
+
+    private final QueryExpression expression;
+    private final boolean isExplain;
+
+    /**
+     * Creates a command that lists the persons satisfying {@code expression},
+     * or, if {@code isExplain}, shows the plan for finding them.
+     */
+    public QueryCommand(QueryExpression expression, boolean isExplain) {
+        requireNonNull(expression);
+        this.expression = expression;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isExplain) {
+            return new CommandResult(String.format(MESSAGE_EXPLAIN, expression, model.planQuery(expression).explain()));
+        }
+
+        model.updateFilteredPersonList(new QueryPredicate(expression));
+        return new CommandResult(String.format(
+                Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return expression.equals(otherQueryCommand.expression) && isExplain == otherQueryCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("expression", expression)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookBackups;
+import seedu.address.model.Model;
+
+/**
+ * Lists the backups of the address book, or replaces the address book with one of them.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the backups of the address book, newest first, or restores the backup with the given number.\n"
+            + "Parameters: [BACKUP_NUMBER] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups yet.";
+    public static final String MESSAGE_LIST_BACKUPS = "Backups, newest first:\n%1$s\n"
+            + "Enter \"" + COMMAND_WORD + " BACKUP_NUMBER\" to restore one.";
+    public static final String MESSAGE_INVALID_BACKUP_NUMBER = "There is no backup with that number.";
+    public static final String MESSAGE_READ_BACKUPS_FAILED = "Could not read the backups: %1$s";
+    public static final String MESSAGE_SUCCESS = "Restored the address book from backup %1$s.";
+
+    private final Optional<Index> backupIndex;
+
+    /**
+     * Creates a command that lists the backups.
+     */
+    public RestoreCommand() {
+        this.backupIndex = Optional.empty();
+    }
+
+    /**
+     * Creates a command that restores the backup at {@code backupIndex} in the list of backups.
+     */
+    public RestoreCommand(Index backupIndex) {
+        requireNonNull(backupIndex);
+        this.backupIndex = Optional.of(backupIndex);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AddressBookBackups addressBookBackups = model.getAddressBookBackups();
+        List<String> backups;
+        try {
+            backups = addressBookBackups.listBackups();
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_BACKUPS_FAILED, e.getMessage()), e);
+        }
+
+        if (backupIndex.isEmpty()) {
+            return new CommandResult(listBackups(backups));
+        }
+        if (backupIndex.get().getZeroBased() >= backups.size()) {
+            throw new CommandException(MESSAGE_INVALID_BACKUP_NUMBER);
+        }
+
+        String backup = backups.get(backupIndex.get().getZeroBased());
+        try {
+            model.setAddressBook(addressBookBackups.readBackup(backup));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_READ_BACKUPS_FAILED, e.getMessage()), e);
+        }
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, backup));
+    }
+
+    private static String listBackups(List<String> backups) {
+        if (backups.isEmpty()) {
+            return MESSAGE_NO_BACKUPS;
+        }
+        StringBuilder list = new StringBuilder();
+        for (int i = 0; i < backups.size(); i++) {
+            if (i > 0) {
+                list.append('\n');
+            }
+            list.append(i + 1).append(". ").append(backups.get(i));
+        }
+        return String.format(MESSAGE_LIST_BACKUPS, list);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return backupIndex.equals(otherRestoreCommand.backupIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("backupIndex", backupIndex)
+                .toString();
+    }
+}
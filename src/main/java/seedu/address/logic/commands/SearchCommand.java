@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+
+/**
+ * Lists the persons in address book that best match the argument keywords, best match first.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    /** The most persons a search lists. */
+    public static final int MAX_RESULTS = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons whose names, emails, skills "
+            + "or categories best match the specified keywords (case-insensitive), best match first, "
+            + "up to " + MAX_RESULTS + " persons.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " backend java alpha";
+
+    private final String keywords;
+
+    /**
+     * Creates a command that searches for {@code keywords}.
+     */
+    public SearchCommand(String keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.rankFilteredPersonList(keywords, MAX_RESULTS);
+        return new CommandResult(String.format(
+                Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return keywords.equals(otherSearchCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -8,9 +8,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -29,6 +29,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Skill;
 import seedu.address.model.tag.Category;
+import seedu.address.model.tag.Category.CategoryType;
 
 /**
  * Updates the details of an existing person in the address book.
@@ -91,12 +92,24 @@ public class UpdateCommand extends Command {
         if (!personToUpdate.isSamePerson(updatedPerson) && model.hasPerson(updatedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
+        if (isTakenByOther(model.findPersonByEmail(updatedPerson.getEmail()), personToUpdate)) {
+            throw new CommandException(MESSAGE_DUPLICATE_EMAIL);
+        }
+        if (isTakenByOther(model.findPersonByPhone(updatedPerson.getPhone()), personToUpdate)) {
+            throw new CommandException(MESSAGE_DUPLICATE_PHONE);
+        }
 
         model.setPerson(personToUpdate, updatedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_UPDATE_PERSON_SUCCESS, Messages.format(updatedPerson)));
     }
 
+    /**
+     * Returns true if {@code holder} is present and is not {@code personToUpdate}.
+     */
+    private static boolean isTakenByOther(Optional<Person> holder, Person personToUpdate) {
+        return holder.filter(person -> !person.isSamePerson(personToUpdate)).isPresent();
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToUpdate}
      * updated with {@code UpdatePersonDescriptor}.
@@ -141,15 +154,15 @@ public class UpdateCommand extends Command {
             return descriptorCategories;
         }
 
-        Set<String> descriptorCategoryTypes = new HashSet<>();
+        Set<CategoryType> descriptorCategoryTypes = EnumSet.noneOf(CategoryType.class);
         for (Category category : descriptorCategories) {
-            descriptorCategoryTypes.add(category.getCategory());
+            descriptorCategoryTypes.add(category.getCategoryType());
         }
 
         Set<Category> mergedCategories = new HashSet<>(descriptorCategories);
 
         for (Category existingCategory : existingCategories) {
-            if (!descriptorCategoryTypes.contains(existingCategory.getCategory())) {
+            if (!descriptorCategoryTypes.contains(existingCategory.getCategoryType())) {
                 mergedCategories.add(existingCategory);
             }
         }
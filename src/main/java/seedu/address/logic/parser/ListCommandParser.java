@@ -9,6 +9,7 @@ import java.util.List;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.predicate.PersonHasTagPredicate;
+import seedu.address.model.person.predicate.SkillExpressionPredicate;
 
 /**
  * Parses input arguments and creates a new {@code ListCommand} object.
@@ -17,6 +18,7 @@ import seedu.address.model.person.predicate.PersonHasTagPredicate;
  *   - list
  *   - list s/SKILL_NAME [s/ANOTHER_SKILL ...]
  *   - list skills/SKILL_NAME [skills/ANOTHER_SKILL ...]   (long form kept for backward-compat)
+ *   - list s/SKILL_EXPRESSION, e.g. list s/java AND (sql OR python) AND NOT csharp
  *
  * Any other prefixes (e.g., c/) cause a parse error. Harmless preamble without '/' (e.g., "3") is allowed
  * for AB3 compatibility.
@@ -61,6 +63,9 @@ public class ListCommandParser implements Parser<ListCommand> {
 
         // Join multiple skills with a single space (legacy OR semantics for PersonHasTagPredicate)
         String combined = String.join(" ", skills).trim();
+        if (SkillExpressionParser.isExpression(combined)) {
+            return new ListCommand(new SkillExpressionPredicate(SkillExpressionParser.parse(combined)));
+        }
         return new ListCommand(new PersonHasTagPredicate(combined));
     }
 }
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    private static final String EXPLAIN = "explain";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        String query = args.trim();
+        boolean isExplain = query.equals(EXPLAIN) || query.startsWith(EXPLAIN + " ");
+        if (isExplain) {
+            query = query.substring(EXPLAIN.length()).trim();
+        }
+        if (query.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        return new QueryCommand(QueryExpressionParser.parse(query), isExplain);
+    }
+
+}
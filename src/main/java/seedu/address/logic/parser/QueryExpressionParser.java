@@ -0,0 +1,159 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.predicate.QueryExpression;
+import seedu.address.model.person.predicate.QueryField;
+import seedu.address.model.tag.Category;
+
+/**
+ * Parses a query such as {@code skill:java AND (team:alpha OR dept:eng) AND NOT role:intern}.
+ *
+ * <p>Each term is a field and a value separated by a colon. The fields are {@code name}, {@code email},
+ * {@code phone}, {@code skill}, {@code dept} (or {@code department}), {@code team} and {@code role}.
+ * Consecutive words that are not operators and have no colon form one value, e.g. {@code name:alex yeoh}.
+ * Terms are combined as in {@link SkillExpressionParser}: {@code AND}, {@code OR} and {@code NOT} must be written
+ * in upper case, {@code NOT} binds tightest and {@code OR} loosest, and parentheses can be used for grouping.
+ */
+public class QueryExpressionParser {
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid query: %1$s\n"
+            + "Combine FIELD:VALUE terms with AND, OR, NOT and parentheses, "
+            + "e.g. skill:java AND (team:alpha OR dept:eng) AND NOT role:intern";
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown query field: %1$s\n"
+            + "Query fields are name, email, phone, skill, dept, team and role.";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String FIELD_SEPARATOR = ":";
+    private static final Set<String> SYMBOLS = Set.of(AND, OR, NOT, OPEN, CLOSE);
+
+    private final String input;
+    private final List<String> tokens;
+    private int position;
+
+    private QueryExpressionParser(String input) {
+        this.input = input;
+        this.tokens = tokenize(input);
+    }
+
+    /**
+     * Parses {@code input} into a {@code QueryExpression}.
+     *
+     * @throws ParseException if {@code input} is not a well-formed query, names an unknown field,
+     *     or compares a field against a value it cannot have.
+     */
+    public static QueryExpression parse(String input) throws ParseException {
+        requireNonNull(input);
+        QueryExpressionParser parser = new QueryExpressionParser(input);
+        QueryExpression expression = parser.parseOr();
+        if (parser.position != parser.tokens.size()) {
+            throw parser.error();
+        }
+        return expression;
+    }
+
+    private static List<String> tokenize(String input) {
+        String spaced = input.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ").trim();
+        return spaced.isEmpty() ? List.of() : Arrays.asList(spaced.split("\\s+"));
+    }
+
+    private QueryExpression parseOr() throws ParseException {
+        QueryExpression expression = parseAnd();
+        while (accept(OR)) {
+            expression = expression.or(parseAnd());
+        }
+        return expression;
+    }
+
+    private QueryExpression parseAnd() throws ParseException {
+        QueryExpression expression = parseNot();
+        while (accept(AND)) {
+            expression = expression.and(parseNot());
+        }
+        return expression;
+    }
+
+    private QueryExpression parseNot() throws ParseException {
+        if (accept(NOT)) {
+            return parseNot().negate();
+        }
+        if (accept(OPEN)) {
+            QueryExpression expression = parseOr();
+            if (!accept(CLOSE)) {
+                throw error();
+            }
+            return expression;
+        }
+        return parseTerm();
+    }
+
+    private QueryExpression parseTerm() throws ParseException {
+        if (position >= tokens.size() || !tokens.get(position).contains(FIELD_SEPARATOR)) {
+            throw error();
+        }
+        String first = tokens.get(position++);
+        int separator = first.indexOf(FIELD_SEPARATOR);
+        String keyword = first.substring(0, separator);
+        Optional<QueryField> field = QueryField.fromKeyword(keyword);
+        if (field.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, keyword));
+        }
+
+        List<String> words = new ArrayList<>();
+        if (separator + 1 < first.length()) {
+            words.add(first.substring(separator + 1));
+        }
+        while (position < tokens.size() && !SYMBOLS.contains(tokens.get(position))
+                && !tokens.get(position).contains(FIELD_SEPARATOR)) {
+            words.add(tokens.get(position++));
+        }
+        if (words.isEmpty()) {
+            throw error();
+        }
+        return QueryExpression.of(field.get(), parseValue(field.get(), String.join(" ", words)));
+    }
+
+    /**
+     * Checks that {@code value} is a value {@code field} can have, and returns it in the form it is stored in.
+     */
+    private static String parseValue(QueryField field, String value) throws ParseException {
+        switch (field) {
+        case NAME:
+            return value;
+        case EMAIL:
+            return ParserUtil.parseEmail(value).value;
+        case PHONE:
+            return ParserUtil.parsePhone(value).value;
+        case SKILL:
+            return ParserUtil.parseSkill(value).skillName;
+        default:
+            if (!Category.isValidData(value)) {
+                throw new ParseException(Category.MESSAGE_CONSTRAINTS);
+            }
+            return value;
+        }
+    }
+
+    private boolean accept(String symbol) {
+        if (position < tokens.size() && tokens.get(position).equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private ParseException error() {
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, input.trim()));
+    }
+}
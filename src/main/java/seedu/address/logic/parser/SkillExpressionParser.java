@@ -0,0 +1,122 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.predicate.SkillExpression;
+
+/**
+ * Parses a boolean skill expression such as {@code java AND (sql OR python) AND NOT csharp}.
+ *
+ * <p>The operators {@code AND}, {@code OR} and {@code NOT} must be written in upper case.
+ * {@code NOT} binds tightest and {@code OR} loosest; parentheses can be used for grouping.
+ * Consecutive words that are not operators form one skill name, e.g. {@code project management}.
+ */
+public class SkillExpressionParser {
+
+    public static final String MESSAGE_INVALID_EXPRESSION = "Invalid skill expression: %1$s\n"
+            + "Combine skills with AND, OR, NOT and parentheses, e.g. java AND (sql OR python) AND NOT csharp";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final Set<String> SYMBOLS = Set.of(AND, OR, NOT, OPEN, CLOSE);
+
+    private final String input;
+    private final List<String> tokens;
+    private int position;
+
+    private SkillExpressionParser(String input) {
+        this.input = input;
+        this.tokens = tokenize(input);
+    }
+
+    /**
+     * Returns true if {@code input} uses any operator or parenthesis, and so should be parsed as an expression
+     * rather than as a single skill name.
+     */
+    public static boolean isExpression(String input) {
+        requireNonNull(input);
+        return tokenize(input).stream().anyMatch(SYMBOLS::contains);
+    }
+
+    /**
+     * Parses {@code input} into a {@code SkillExpression}.
+     *
+     * @throws ParseException if {@code input} is not a well-formed expression or names an invalid skill.
+     */
+    public static SkillExpression parse(String input) throws ParseException {
+        requireNonNull(input);
+        SkillExpressionParser parser = new SkillExpressionParser(input);
+        SkillExpression expression = parser.parseOr();
+        if (parser.position != parser.tokens.size()) {
+            throw parser.error();
+        }
+        return expression;
+    }
+
+    private static List<String> tokenize(String input) {
+        String spaced = input.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ").trim();
+        return spaced.isEmpty() ? List.of() : Arrays.asList(spaced.split("\\s+"));
+    }
+
+    private SkillExpression parseOr() throws ParseException {
+        SkillExpression expression = parseAnd();
+        while (accept(OR)) {
+            expression = expression.or(parseAnd());
+        }
+        return expression;
+    }
+
+    private SkillExpression parseAnd() throws ParseException {
+        SkillExpression expression = parseNot();
+        while (accept(AND)) {
+            expression = expression.and(parseNot());
+        }
+        return expression;
+    }
+
+    private SkillExpression parseNot() throws ParseException {
+        if (accept(NOT)) {
+            return parseNot().negate();
+        }
+        if (accept(OPEN)) {
+            SkillExpression expression = parseOr();
+            if (!accept(CLOSE)) {
+                throw error();
+            }
+            return expression;
+        }
+        return parseSkill();
+    }
+
+    private SkillExpression parseSkill() throws ParseException {
+        List<String> words = new ArrayList<>();
+        while (position < tokens.size() && !SYMBOLS.contains(tokens.get(position))) {
+            words.add(tokens.get(position++));
+        }
+        if (words.isEmpty()) {
+            throw error();
+        }
+        return SkillExpression.of(ParserUtil.parseSkill(String.join(" ", words)));
+    }
+
+    private boolean accept(String symbol) {
+        if (position < tokens.size() && tokens.get(position).equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private ParseException error() {
+        return new ParseException(String.format(MESSAGE_INVALID_EXPRESSION, input.trim()));
+    }
+}
@@ -2,20 +2,55 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.CategoryIndex;
+import seedu.address.model.index.FullTextIndex;
+import seedu.address.model.index.InvertedIndex;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.index.SkillBitmapIndex;
+import seedu.address.model.index.TrigramIndex;
+import seedu.address.model.index.UniqueIndex;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Skill;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicateEmailException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicatePhoneException;
+import seedu.address.model.person.predicate.SkillExpression;
+import seedu.address.model.tag.Category.CategoryType;
 
 /**
  * Wraps all data at the address-book level
- * Duplicates are not allowed (by .isSamePerson comparison)
+ * Duplicates are not allowed (by .isSamePerson comparison), and no two persons may share an email or a phone number.
+ * Secondary indexes over the persons are updated incrementally by every person-level operation.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final InvertedIndex<Skill> skillIndex = new InvertedIndex<>(Person::getSkills);
+    private final SkillBitmapIndex skillBitmapIndex = new SkillBitmapIndex();
+    private final CategoryIndex categoryIndex = new CategoryIndex();
+    private final TrigramIndex skillTextIndex = new TrigramIndex(person -> toLowerStrings(person.getSkills()));
+    private final TrigramIndex categoryTextIndex = new TrigramIndex(person -> toLowerStrings(person.getCategories()));
+    private final InvertedIndex<String> nameWordIndex = new InvertedIndex<>(AddressBook::getFoldedNameWords);
+    private final UniqueIndex<String> emailIndex = new UniqueIndex<>(person -> person.getEmail().value);
+    private final UniqueIndex<String> phoneIndex = new UniqueIndex<>(person -> person.getPhone().value);
+    private final FullTextIndex fullTextIndex = new FullTextIndex();
+    private final List<PersonIndex> indexes = List.of(skillIndex, skillBitmapIndex, categoryIndex,
+            skillTextIndex, categoryTextIndex, nameWordIndex, emailIndex, phoneIndex, fullTextIndex);
+    private long version = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -42,10 +77,23 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Replaces the contents of the person list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, nor two persons with the same email or phone number.
      */
     public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        if (emailIndex.hasConflictingKeys(persons)) {
+            throw new DuplicateEmailException();
+        }
+        if (phoneIndex.hasConflictingKeys(persons)) {
+            throw new DuplicatePhoneException();
+        }
+
         this.persons.setPersons(persons);
+        indexes.forEach(PersonIndex::clear);
+        for (Person person : this.persons) {
+            indexes.forEach(index -> index.add(person));
+        }
+        version++;
     }
 
     /**
@@ -69,21 +117,40 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Adds a person to the address book.
-     * The person must not already exist in the address book.
+     * The person must not already exist in the address book, and its email and phone number must not be taken.
      */
     public void addPerson(Person p) {
+        requireNonNull(p);
+        if (persons.contains(p)) {
+            throw new DuplicatePersonException();
+        }
+        requireUniqueKeys(p, null);
+
         persons.add(p);
+        indexes.forEach(index -> index.add(p));
+        version++;
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code updatedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code updatedPerson} must not be the same as another existing person in the address book.
+     * The email and phone number of {@code updatedPerson} must not be taken by a person other than {@code target}.
      */
     public void setPerson(Person target, Person updatedPerson) {
+        requireNonNull(target);
         requireNonNull(updatedPerson);
+        if (!target.isSamePerson(updatedPerson) && persons.contains(updatedPerson)) {
+            throw new DuplicatePersonException();
+        }
+        requireUniqueKeys(updatedPerson, target);
 
-        persons.setPerson(target, updatedPerson);
+        Person replaced = persons.setPerson(target, updatedPerson);
+        indexes.forEach(index -> {
+            index.remove(replaced);
+            index.add(updatedPerson);
+        });
+        version++;
     }
 
     /**
@@ -91,7 +158,121 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        Person removed = persons.remove(key);
+        indexes.forEach(index -> index.remove(removed));
+        version++;
+    }
+
+    /**
+     * Throws if the email or phone number of {@code person} is taken by a person other than {@code except}.
+     */
+    private void requireUniqueKeys(Person person, Person except) {
+        if (emailIndex.isTakenByOther(person, except)) {
+            throw new DuplicateEmailException();
+        }
+        if (phoneIndex.isTakenByOther(person, except)) {
+            throw new DuplicatePhoneException();
+        }
+    }
+
+    /**
+     * Returns the number of changes made to the persons in this address book so far.
+     * Callers can compare versions to tell whether the address book has changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    //// index queries
+
+    /**
+     * Returns the person in the address book with {@code email}, if any.
+     */
+    public Optional<Person> findPersonByEmail(Email email) {
+        requireNonNull(email);
+        return emailIndex.get(email.value);
+    }
+
+    /**
+     * Returns the person in the address book with {@code phone}, if any.
+     */
+    public Optional<Person> findPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.get(phone.value);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the address book that have {@code skill}.
+     */
+    public Set<Person> getPersonsWithSkill(Skill skill) {
+        return skillIndex.get(skill);
+    }
+
+    /**
+     * Returns the number of persons in the address book that have {@code skill}.
+     */
+    public int countPersonsWithSkill(Skill skill) {
+        return skillIndex.count(skill);
+    }
+
+    /**
+     * Returns the persons in the address book whose skills satisfy {@code expression},
+     * evaluated on the skill bitmaps of the address book.
+     */
+    public List<Person> getPersonsMatching(SkillExpression expression) {
+        requireNonNull(expression);
+        return skillBitmapIndex.getPersons(expression.evaluate(skillBitmapIndex));
+    }
+
+    /**
+     * Returns every value of the category {@code type} in the address book, mapped to the persons that have it.
+     */
+    public Map<String, Set<Person>> getCategoryGroups(CategoryType type) {
+        return categoryIndex.getGroups(type);
+    }
+
+    /**
+     * Returns the persons in the address book with a skill whose lower-cased string form contains {@code needle}.
+     * The returned set is modifiable and compares persons by reference.
+     */
+    public Set<Person> getPersonsWithSkillContaining(String needle) {
+        return skillTextIndex.getContaining(needle);
+    }
+
+    /**
+     * Returns the persons in the address book with a category whose lower-cased string form contains {@code needle}.
+     * The returned set is modifiable and compares persons by reference.
+     */
+    public Set<Person> getPersonsWithCategoryContaining(String needle) {
+        return categoryTextIndex.getContaining(needle);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the address book whose name contains {@code word},
+     * ignoring case as {@link StringUtil#containsWordIgnoreCase(String, String)} does.
+     */
+    public Set<Person> getPersonsWithNameWord(String word) {
+        return nameWordIndex.get(StringUtil.foldCase(word));
+    }
+
+    /**
+     * Returns at most {@code limit} persons in the address book whose name, email, skills or category values share
+     * a word with {@code query}, ranked by relevance with the best match first.
+     */
+    public List<Person> searchPersons(String query, int limit) {
+        return fullTextIndex.search(query, limit);
+    }
+
+    private static List<String> toLowerStrings(Set<?> values) {
+        return values.stream()
+                .map(value -> value.toString().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getFoldedNameWords(Person person) {
+        return Arrays.stream(StringUtil.splitWords(person.getName().fullName))
+                .map(StringUtil::foldCase)
+                .collect(Collectors.toList());
     }
 
     //// util methods
@@ -0,0 +1,33 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * The backups of the address book kept by storage.
+ */
+public interface AddressBookBackups {
+
+    /** No backups, for when the address book is not backed up. */
+    AddressBookBackups NONE = new AddressBookBackups() {};
+
+    /**
+     * Returns the names of the backups, newest first.
+     *
+     * @throws IOException if the backups could not be listed.
+     */
+    default List<String> listBackups() throws IOException {
+        return List.of();
+    }
+
+    /**
+     * Returns the address book in the backup named {@code backupName}, one of the names in {@link #listBackups()}.
+     *
+     * @throws DataLoadingException if the backup could not be read.
+     */
+    default ReadOnlyAddressBook readBackup(String backupName) throws DataLoadingException {
+        throw new DataLoadingException(new IOException("No backup named " + backupName));
+    }
+}
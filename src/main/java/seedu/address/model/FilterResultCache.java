@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers which persons recent filters matched, so that going back to a recent filter does not test every person
+ * in the address book again.
+ *
+ * <p>Results are the positions of the matching persons in the address book, in ascending order, and are looked up
+ * by predicate equality. They only hold for the version of the address book they were found in, so the whole cache
+ * is dropped as soon as it is asked about a different version. Only the most recently used results are kept.
+ */
+class FilterResultCache {
+
+    static final int DEFAULT_CAPACITY = 8;
+
+    private final Map<Predicate<? super Person>, int[]> results;
+    private long version;
+    private long hitCount;
+    private long missCount;
+
+    FilterResultCache(int capacity) {
+        results = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<? super Person>, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the positions of the persons matched by {@code predicate} in the address book at {@code version},
+     * if they are cached.
+     */
+    Optional<int[]> get(Predicate<? super Person> predicate, long version) {
+        requireNonNull(predicate);
+        invalidateIfStale(version);
+        int[] positions = results.get(predicate);
+        if (positions == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(positions);
+    }
+
+    /**
+     * Caches the positions of the persons matched by {@code predicate} in the address book at {@code version},
+     * unless they are cached already. {@code positions} is only called if they are not.
+     */
+    void putIfAbsent(Predicate<? super Person> predicate, long version, Supplier<int[]> positions) {
+        requireNonNull(predicate);
+        invalidateIfStale(version);
+        if (!results.containsKey(predicate)) {
+            results.put(predicate, positions.get());
+        }
+    }
+
+    private void invalidateIfStale(long version) {
+        if (version != this.version) {
+            results.clear();
+            this.version = version;
+        }
+    }
+
+    /**
+     * Returns the number of results cached for the current version of the address book.
+     */
+    int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a cached result.
+     */
+    long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached result.
+     */
+    long getMissCount() {
+        return missCount;
+    }
+}
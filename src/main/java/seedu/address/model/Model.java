@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Skill;
+import seedu.address.model.person.predicate.QueryExpression;
+import seedu.address.model.person.predicate.QueryPlan;
+import seedu.address.model.tag.Category.CategoryType;
 
 /**
  * The API of the Model component.
@@ -44,6 +52,16 @@ public interface Model {
      */
     void setAddressBookFilePath(Path addressBookFilePath);
 
+    /**
+     * Returns the backups of the address book kept by storage.
+     */
+    AddressBookBackups getAddressBookBackups();
+
+    /**
+     * Sets where the backups of the address book are kept.
+     */
+    void setAddressBookBackups(AddressBookBackups addressBookBackups);
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -52,11 +70,27 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the persons in the address book change,
+     * so that callers can skip work such as saving when it has not.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book with {@code email}, if any.
+     */
+    Optional<Person> findPersonByEmail(Email email);
+
+    /**
+     * Returns the person in the address book with {@code phone}, if any.
+     */
+    Optional<Person> findPersonByPhone(Phone phone);
+
     /**
      * Sets the given person to delete.
      * The person must exist in the address book.
@@ -93,7 +127,27 @@ public interface Model {
      */
     void setPerson(Person target, Person updatedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Returns the number of persons in the address book that have {@code skill}.
+     */
+    int countPersonsWithSkill(Skill skill);
+
+    /**
+     * Returns the plan for finding the persons in the address book that satisfy {@code expression},
+     * using the address book indexes where it can.
+     */
+    QueryPlan planQuery(QueryExpression expression);
+
+    /**
+     * Returns the number of persons in the filtered person list that have each value of the category {@code type}.
+     * Values that no person in the filtered person list has are left out.
+     */
+    Map<String, Integer> countFilteredPersonsByCategory(CategoryType type);
+
+    /**
+     * Returns an unmodifiable view of the filtered person list.
+     * The filter stays in place as persons are added, updated and deleted, until it is replaced.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -101,4 +155,20 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Shows the persons whose name, email, skills or category values best match the words in {@code query} in the
+     * filtered person list, at most {@code limit} of them, ranked by relevance with the best match first.
+     * Persons added or updated later are shown after them if they share a word with {@code query}.
+     * The ranking lasts until {@link #updateFilteredPersonList(Predicate)} is next called.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void rankFilteredPersonList(String query, int limit);
+
+    /**
+     * Makes {@link #updateFilteredPersonList(Predicate)} test the persons on every core, in chunks, once the address
+     * book has at least {@code threshold} persons. The filtered person list still changes once, on the calling
+     * thread, when all the persons have been tested. A {@code threshold} of 0 or less turns this off.
+     */
+    void setParallelFilterThreshold(int threshold);
 }
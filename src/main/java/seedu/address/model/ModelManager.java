@@ -4,14 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.index.FullTextIndex;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.FilteredPersonList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.RankedPersonList;
+import seedu.address.model.person.Skill;
+import seedu.address.model.person.predicate.IndexedPredicate;
+import seedu.address.model.person.predicate.QueryExpression;
+import seedu.address.model.person.predicate.QueryPlan;
+import seedu.address.model.tag.Category.CategoryType;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,7 +39,11 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private final RankedPersonList shownPersons;
+    private final FilterResultCache filterResults = new FilterResultCache(FilterResultCache.DEFAULT_CAPACITY);
+    private int parallelFilterThreshold = 0;
+    private AddressBookBackups addressBookBackups = AddressBookBackups.NONE;
     private Person toDeletePerson;
 
     /**
@@ -34,7 +56,8 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        shownPersons = new RankedPersonList(filteredPersons);
         toDeletePerson = null;
     }
 
@@ -77,6 +100,17 @@ public class ModelManager implements Model {
         userPrefs.setAddressBookFilePath(addressBookFilePath);
     }
 
+    @Override
+    public AddressBookBackups getAddressBookBackups() {
+        return addressBookBackups;
+    }
+
+    @Override
+    public void setAddressBookBackups(AddressBookBackups addressBookBackups) {
+        requireNonNull(addressBookBackups);
+        this.addressBookBackups = addressBookBackups;
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
@@ -89,12 +123,29 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findPersonByEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.findPersonByEmail(email);
+    }
+
+    @Override
+    public Optional<Person> findPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.findPersonByPhone(phone);
+    }
+
     @Override
     public void setPersonToDelete(Person target) {
         toDeletePerson = target;
@@ -118,7 +169,6 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -128,6 +178,18 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, updatedPerson);
     }
 
+    @Override
+    public int countPersonsWithSkill(Skill skill) {
+        requireNonNull(skill);
+        return addressBook.countPersonsWithSkill(skill);
+    }
+
+    @Override
+    public QueryPlan planQuery(QueryExpression expression) {
+        requireNonNull(expression);
+        return expression.plan(addressBook);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -136,13 +198,128 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return shownPersons;
+    }
+
+    @Override
+    public Map<String, Integer> countFilteredPersonsByCategory(CategoryType type) {
+        requireNonNull(type);
+        Map<String, Set<Person>> groups = addressBook.getCategoryGroups(type);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // The filtered list is a subset of the address book, so equal sizes mean that nothing is filtered out.
+        if (filteredPersons.size() == addressBook.getPersonList().size()) {
+            groups.forEach((value, members) -> counts.put(value, members.size()));
+            return counts;
+        }
+
+        Set<Person> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+        shown.addAll(filteredPersons);
+        groups.forEach((value, members) -> {
+            int count = countCommon(members, shown);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Returns the number of persons in both {@code first} and {@code second}, iterating over the smaller one.
+     */
+    private static int countCommon(Set<Person> first, Set<Person> second) {
+        Set<Person> smaller = first.size() <= second.size() ? first : second;
+        Set<Person> larger = smaller == first ? second : first;
+        int count = 0;
+        for (Person person : smaller) {
+            if (larger.contains(person)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        long version = addressBook.getVersion();
+        // The filter being replaced has been kept up to date with every change, so its matches can be reused later.
+        // Ranked search results are only the best of the matches of their filter, so they are not kept.
+        if (shownPersons.getOrder() == null) {
+            filterResults.putIfAbsent(filteredPersons.getPredicate(), version, filteredPersons::getSourcePositions);
+        }
+        shownPersons.setOrder(null);
+
+        Optional<int[]> cachedPositions = filterResults.get(predicate, version);
+        if (cachedPositions.isPresent()) {
+            logger.fine("Reusing the cached matches for " + predicate);
+            filteredPersons.setPredicate(predicate, cachedPositions.get());
+            return;
+        }
+        Predicate<Person> currentMatches = narrowWithIndexes(predicate);
+        if (isParallelFilterDue()) {
+            int[] positions = ParallelFilter.findMatches(addressBook.getPersonList(), currentMatches);
+            filteredPersons.setPredicate(predicate, positions);
+            filterResults.putIfAbsent(predicate, version, () -> positions);
+        } else {
+            filteredPersons.setPredicate(predicate, currentMatches);
+            filterResults.putIfAbsent(predicate, version, filteredPersons::getSourcePositions);
+        }
+    }
+
+    @Override
+    public void rankFilteredPersonList(String query, int limit) {
+        requireNonNull(query);
+        List<Person> ranked = addressBook.searchPersons(query, limit);
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            ranks.put(ranked.get(i), i);
+        }
+        Set<String> terms = FullTextIndex.getTerms(query);
+        // Only the ranked persons are shown now; persons added or edited later are shown if they share a term.
+        filteredPersons.setPredicate(person -> !Collections.disjoint(FullTextIndex.countTerms(person).keySet(), terms),
+                ranks::containsKey);
+        shownPersons.setOrder(Comparator.comparingInt(person -> ranks.getOrDefault(person, ranked.size())));
+    }
+
+    @Override
+    public void setParallelFilterThreshold(int threshold) {
+        parallelFilterThreshold = threshold;
+    }
+
+    private boolean isParallelFilterDue() {
+        return parallelFilterThreshold > 0 && addressBook.getPersonList().size() >= parallelFilterThreshold;
+    }
+
+    /**
+     * Returns the cache of the persons matched by recent filters.
+     */
+    FilterResultCache getFilterResults() {
+        return filterResults;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} on the current address book, which only has to look up
+     * the candidates found through the address book indexes when {@code predicate} is an {@code IndexedPredicate}.
+     */
+    private Predicate<Person> narrowWithIndexes(Predicate<Person> predicate) {
+        if (!(predicate instanceof IndexedPredicate)) {
+            return predicate;
+        }
+
+        Optional<Collection<Person>> candidates = ((IndexedPredicate) predicate).getCandidates(addressBook);
+        if (candidates.isEmpty()) {
+            return predicate;
+        }
+
+        logger.fine("Filtering " + candidates.get().size() + " indexed candidates for " + predicate);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person candidate : candidates.get()) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches::contains;
     }
 
     @Override
@@ -159,7 +336,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && shownPersons.equals(otherModelManager.shownPersons);
     }
 
 }
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the persons in a list that satisfy a predicate on the fork/join pool the caller runs in,
+ * or the common pool if the caller does not run in one.
+ *
+ * <p>The list is split into chunks, each chunk collects the positions of its matches on its own, and the chunks
+ * are joined in order at the end. The list must not change while it is being filtered, and the predicate must be
+ * safe to test from several threads at once.
+ */
+final class ParallelFilter {
+
+    /** Persons per chunk, enough that the cost of forking a chunk is small next to filtering it. */
+    static final int CHUNK_SIZE = 4096;
+
+    private ParallelFilter() {} // prevents instantiation
+
+    /**
+     * Returns the positions in {@code persons} of the persons that satisfy {@code predicate}, in ascending order.
+     */
+    static int[] findMatches(List<? extends Person> persons, Predicate<? super Person> predicate) {
+        requireNonNull(persons);
+        requireNonNull(predicate);
+        int chunkCount = (persons.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[][] chunkMatches = new int[chunkCount][];
+        new Chunks(persons, predicate, chunkMatches, 0, chunkCount).invoke();
+
+        int matchCount = 0;
+        for (int[] matches : chunkMatches) {
+            matchCount += matches.length;
+        }
+        int[] positions = new int[matchCount];
+        int next = 0;
+        for (int[] matches : chunkMatches) {
+            System.arraycopy(matches, 0, positions, next, matches.length);
+            next += matches.length;
+        }
+        return positions;
+    }
+
+    /**
+     * Filters the chunks from {@code from} to {@code to}, splitting the range until it is a single chunk.
+     */
+    private static final class Chunks extends RecursiveAction {
+        private final List<? extends Person> persons;
+        private final Predicate<? super Person> predicate;
+        private final int[][] chunkMatches;
+        private final int from;
+        private final int to;
+
+        Chunks(List<? extends Person> persons, Predicate<? super Person> predicate, int[][] chunkMatches,
+                int from, int to) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.chunkMatches = chunkMatches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Chunks(persons, predicate, chunkMatches, from, middle),
+                        new Chunks(persons, predicate, chunkMatches, middle, to));
+                return;
+            }
+            if (to == from) {
+                return;
+            }
+
+            int start = from * CHUNK_SIZE;
+            int end = Math.min(start + CHUNK_SIZE, persons.size());
+            int[] matches = new int[end - start];
+            int matchCount = 0;
+            for (int i = start; i < end; i++) {
+                if (predicate.test(persons.get(i))) {
+                    matches[matchCount++] = i;
+                }
+            }
+            chunkMatches[from] = Arrays.copyOf(matches, matchCount);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Category;
+import seedu.address.model.tag.Category.CategoryType;
+
+/**
+ * Maps each {@code (CategoryType, value)} pair to the set of persons assigned to it,
+ * e.g. {@code (TEAM, "Alpha")} to every member of team Alpha.
+ */
+public class CategoryIndex implements PersonIndex {
+
+    private final Map<CategoryType, InvertedIndex<String>> indexesByType = new EnumMap<>(CategoryType.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public CategoryIndex() {
+        for (CategoryType type : CategoryType.values()) {
+            indexesByType.put(type, new InvertedIndex<>(person -> person.getCategories().stream()
+                    .filter(category -> category.getCategoryType() == type)
+                    .map(Category::getValue)
+                    .collect(Collectors.toList())));
+        }
+    }
+
+    @Override
+    public void add(Person person) {
+        indexesByType.values().forEach(index -> index.add(person));
+    }
+
+    @Override
+    public void remove(Person person) {
+        indexesByType.values().forEach(index -> index.remove(person));
+    }
+
+    @Override
+    public void clear() {
+        indexesByType.values().forEach(InvertedIndex::clear);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose category of the given {@code type} has {@code value}.
+     */
+    public Set<Person> getMembers(CategoryType type, String value) {
+        requireNonNull(type);
+        return indexesByType.get(type).get(value);
+    }
+
+    /**
+     * Returns every value of the given category {@code type} mapped to the persons that have it.
+     * This takes time proportional to the number of distinct values, not the number of persons.
+     */
+    public Map<String, Set<Person>> getGroups(CategoryType type) {
+        requireNonNull(type);
+        InvertedIndex<String> index = indexesByType.get(type);
+        Map<String, Set<Person>> groups = new HashMap<>();
+        for (String value : index.keys()) {
+            groups.put(value, index.get(value));
+        }
+        return groups;
+    }
+}
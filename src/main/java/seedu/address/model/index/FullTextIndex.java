@@ -0,0 +1,287 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
+import seedu.address.model.tag.Category;
+
+/**
+ * Ranks the persons by how well their name, email, skills and category values match a free-text query,
+ * using the Okapi BM25 scoring function.
+ *
+ * <p>Each person is a document of terms: the words of those fields, split at anything that is not a letter or
+ * digit and compared ignoring case. For each term, the index keeps a posting list of the persons that have it and
+ * how many times they do. A query only visits the posting lists of its own terms, and keeps the best persons seen
+ * so far in a heap bounded by the number of results wanted instead of sorting every match.
+ *
+ * <p>Persons are numbered in the order they are added, so posting lists stay sorted by simply appending to them.
+ * The numbers of removed persons are not reused; once more than half the numbers belong to removed persons,
+ * the remaining persons are numbered again from the start.
+ */
+public class FullTextIndex implements PersonIndex {
+
+    /** How quickly the score of a term saturates as it is repeated in a person. */
+    static final double K1 = 1.2;
+    /** How much a person with more terms than average is penalised. */
+    static final double B = 0.75;
+
+    private static final int MIN_RENUMBER_SIZE = 1024;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Person, Integer> documentIds = new IdentityHashMap<>();
+    private Person[] documents = new Person[16];
+    private int[] documentLengths = new int[16];
+    private int nextDocumentId;
+    private long totalLength;
+
+    /**
+     * Returns the distinct terms in {@code text}, case-folded, in the order they first appear.
+     */
+    public static Set<String> getTerms(String text) {
+        requireNonNull(text);
+        Set<String> terms = new LinkedHashSet<>();
+        forEachTerm(text, terms::add);
+        return terms;
+    }
+
+    /**
+     * Returns the number of times each term occurs in the searchable fields of {@code person}.
+     */
+    public static Map<String, Integer> countTerms(Person person) {
+        Map<String, Integer> counts = new HashMap<>();
+        addTerms(counts, person.getName().fullName);
+        addTerms(counts, person.getEmail().value);
+        for (Skill skill : person.getSkills()) {
+            addTerms(counts, skill.skillName);
+        }
+        for (Category category : person.getCategories()) {
+            addTerms(counts, category.getValue());
+        }
+        return counts;
+    }
+
+    private static void addTerms(Map<String, Integer> counts, String text) {
+        forEachTerm(text, term -> counts.merge(term, 1, Integer::sum));
+    }
+
+    /**
+     * Passes each run of letters and digits in {@code text}, case-folded, to {@code action}.
+     */
+    private static void forEachTerm(String text, Consumer<String> action) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTermChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTermChar && start < 0) {
+                start = i;
+            } else if (!isTermChar && start >= 0) {
+                action.accept(StringUtil.foldCase(text.substring(start, i)));
+                start = -1;
+            }
+        }
+    }
+
+    @Override
+    public void add(Person person) {
+        Map<String, Integer> counts = countTerms(person);
+        int id = nextDocumentId++;
+        if (id == documents.length) {
+            documents = Arrays.copyOf(documents, id * 2);
+            documentLengths = Arrays.copyOf(documentLengths, id * 2);
+        }
+        int length = counts.values().stream().mapToInt(Integer::intValue).sum();
+        documents[id] = person;
+        documentLengths[id] = length;
+        documentIds.put(person, id);
+        totalLength += length;
+        counts.forEach((term, count) -> postings.computeIfAbsent(term, unused -> new PostingList()).append(id, count));
+    }
+
+    @Override
+    public void remove(Person person) {
+        Integer id = documentIds.remove(person);
+        if (id == null) {
+            return;
+        }
+        for (String term : countTerms(person).keySet()) {
+            PostingList posting = postings.get(term);
+            posting.remove(id);
+            if (posting.size == 0) {
+                postings.remove(term);
+            }
+        }
+        documents[id] = null;
+        totalLength -= documentLengths[id];
+
+        int removedCount = nextDocumentId - documentIds.size();
+        if (removedCount > documentIds.size() && nextDocumentId >= MIN_RENUMBER_SIZE) {
+            renumber();
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        documentIds.clear();
+        documents = new Person[16];
+        documentLengths = new int[16];
+        nextDocumentId = 0;
+        totalLength = 0;
+    }
+
+    /**
+     * Adds the remaining persons again, in the same order, so that they are numbered without gaps.
+     */
+    private void renumber() {
+        List<Person> remaining = new ArrayList<>(documentIds.size());
+        for (int id = 0; id < nextDocumentId; id++) {
+            if (documents[id] != null) {
+                remaining.add(documents[id]);
+            }
+        }
+        clear();
+        remaining.forEach(this::add);
+    }
+
+    /**
+     * Returns at most {@code limit} persons that have at least one of the terms in {@code query}, best match first.
+     * Persons with equal scores are returned in the order they were added.
+     */
+    public List<Person> search(String query, int limit) {
+        requireNonNull(query);
+        int documentCount = documentIds.size();
+        if (limit <= 0 || documentCount == 0) {
+            return List.of();
+        }
+
+        double averageLength = (double) totalLength / documentCount;
+        double[] scores = new double[nextDocumentId];
+        int[] matches = new int[16];
+        int matchCount = 0;
+        for (String term : getTerms(query)) {
+            PostingList posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentCount - posting.size + 0.5) / (posting.size + 0.5));
+            for (int i = 0; i < posting.size; i++) {
+                int id = posting.ids[i];
+                int frequency = posting.frequencies[i];
+                double lengthNorm = K1 * (1 - B + B * documentLengths[id] / averageLength);
+                if (scores[id] == 0) {
+                    if (matchCount == matches.length) {
+                        matches = Arrays.copyOf(matches, matchCount * 2);
+                    }
+                    matches[matchCount++] = id;
+                }
+                scores[id] += idf * frequency * (K1 + 1) / (frequency + lengthNorm);
+            }
+        }
+        return selectTop(scores, matches, matchCount, limit);
+    }
+
+    /**
+     * Returns the persons among the first {@code matchCount} {@code matches} with the highest {@code scores},
+     * at most {@code limit} of them, best first.
+     */
+    private List<Person> selectTop(double[] scores, int[] matches, int matchCount, int limit) {
+        // A heap of the best matches so far, with the worst of them at the root to be replaced first.
+        int[] heap = new int[Math.min(limit, matchCount)];
+        int heapSize = 0;
+        for (int i = 0; i < matchCount; i++) {
+            int id = matches[i];
+            if (heapSize < heap.length) {
+                heap[heapSize] = id;
+                siftUp(heap, heapSize++, scores);
+            } else if (isWorse(heap[0], id, scores)) {
+                heap[0] = id;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        Person[] ranked = new Person[heapSize];
+        while (heapSize > 0) {
+            ranked[heapSize - 1] = documents[heap[0]];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return Arrays.asList(ranked);
+    }
+
+    /**
+     * Returns true if person {@code first} ranks below person {@code second}.
+     */
+    private static boolean isWorse(int first, int second, double[] scores) {
+        return scores[first] < scores[second] || (scores[first] == scores[second] && first > second);
+    }
+
+    private static void siftUp(int[] heap, int index, double[] scores) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!isWorse(id, heap[parent], scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = id;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] scores) {
+        if (size == 0) {
+            return;
+        }
+        int index = 0;
+        int id = heap[0];
+        while (2 * index + 1 < size) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && isWorse(heap[child + 1], heap[child], scores)) {
+                child++;
+            }
+            if (!isWorse(heap[child], id, scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = id;
+    }
+
+    /**
+     * The persons that have a term, by number in ascending order, and how many times each has it.
+     */
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void append(int id, int frequency) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ids[size] = id;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps each key to the posting list of persons that have it.
+ * The keys of a person are given by a key extractor, e.g. {@code Person::getSkills}.
+ *
+ * @param <K> type of the keys, which must have value-based {@code equals} and {@code hashCode}.
+ */
+public class InvertedIndex<K> implements PersonIndex {
+
+    private final Function<Person, ? extends Collection<? extends K>> keyExtractor;
+    private final Map<K, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index whose keys for each person are given by {@code keyExtractor}.
+     */
+    public InvertedIndex(Function<Person, ? extends Collection<? extends K>> keyExtractor) {
+        this.keyExtractor = requireNonNull(keyExtractor);
+    }
+
+    @Override
+    public void add(Person person) {
+        for (K key : keyExtractor.apply(person)) {
+            // Persons are immutable and unique in the address book, so they are tracked by reference.
+            postings.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (K key : keyExtractor.apply(person)) {
+            Set<Person> posting = postings.get(key);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons that have {@code key}.
+     */
+    public Set<Person> get(K key) {
+        requireNonNull(key);
+        Set<Person> posting = postings.get(key);
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting);
+    }
+
+    /**
+     * Returns the number of persons that have {@code key}.
+     */
+    public int count(K key) {
+        requireNonNull(key);
+        Set<Person> posting = postings.get(key);
+        return posting == null ? 0 : posting.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys that at least one person has.
+     */
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+}
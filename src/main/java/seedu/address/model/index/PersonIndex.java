@@ -0,0 +1,26 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A secondary index over the persons of an {@code AddressBook}.
+ * The address book notifies its indexes of every person it adds or removes, so that they stay in sync with it.
+ */
+public interface PersonIndex {
+
+    /**
+     * Records {@code person}, which has just been added to the address book.
+     */
+    void add(Person person);
+
+    /**
+     * Forgets {@code person}, which has just been removed from the address book.
+     * {@code person} must be the same instance that was passed to {@link #add(Person)}.
+     */
+    void remove(Person person);
+
+    /**
+     * Forgets every person in this index.
+     */
+    void clear();
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
+
+/**
+ * Keeps a bitmap per skill over person ordinals, so that boolean combinations of skills
+ * can be evaluated with word-at-a-time bitmap operations instead of testing every person.
+ *
+ * <p>Every person in the index holds an ordinal until it is removed. Freed ordinals are reused by the next
+ * person added, so the ordinals stay dense and so do the bitmaps.
+ */
+public class SkillBitmapIndex implements PersonIndex {
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet allOrdinals = new BitSet();
+    private final Map<Skill, BitSet> bitmaps = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+        allOrdinals.set(ordinal);
+        for (Skill skill : person.getSkills()) {
+            bitmaps.computeIfAbsent(skill, unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        for (Skill skill : person.getSkills()) {
+            BitSet bitmap = bitmaps.get(skill);
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(skill);
+            }
+        }
+        allOrdinals.clear(ordinal);
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    @Override
+    public void clear() {
+        ordinals.clear();
+        personsByOrdinal.clear();
+        freeOrdinals.clear();
+        allOrdinals.clear();
+        bitmaps.clear();
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals of the persons that have {@code skill}.
+     */
+    public BitSet getBitmap(Skill skill) {
+        requireNonNull(skill);
+        BitSet bitmap = bitmaps.get(skill);
+        return bitmap == null ? new BitSet() : (BitSet) bitmap.clone();
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals of every person in the index.
+     */
+    public BitSet getAll() {
+        return (BitSet) allOrdinals.clone();
+    }
+
+    /**
+     * Returns the persons with the ordinals set in {@code bitmap}, in ordinal order.
+     */
+    public List<Person> getPersons(BitSet bitmap) {
+        requireNonNull(bitmap);
+        List<Person> persons = new ArrayList<>(bitmap.cardinality());
+        for (int ordinal = bitmap.nextSetBit(0); ordinal >= 0; ordinal = bitmap.nextSetBit(ordinal + 1)) {
+            persons.add(personsByOrdinal.get(ordinal));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the persons that have a string containing a given substring.
+ * The strings of a person are given by a string extractor, e.g. the lower-cased names of their skills.
+ *
+ * <p>Persons are indexed by their distinct strings, and each distinct string is indexed by its trigrams
+ * (substrings of length 3). A needle of length 3 or more only has to be checked against the strings
+ * that share its rarest trigram. Shorter needles are checked against every distinct string,
+ * which is still far fewer than the persons in a large address book.
+ */
+public class TrigramIndex implements PersonIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<Person, ? extends Collection<String>> stringExtractor;
+    private final InvertedIndex<String> persons;
+    private final Map<String, Set<String>> stringsByTrigram = new HashMap<>();
+
+    /**
+     * Creates an empty index whose strings for each person are given by {@code stringExtractor}.
+     */
+    public TrigramIndex(Function<Person, ? extends Collection<String>> stringExtractor) {
+        this.stringExtractor = requireNonNull(stringExtractor);
+        persons = new InvertedIndex<>(stringExtractor);
+    }
+
+    @Override
+    public void add(Person person) {
+        for (String string : stringExtractor.apply(person)) {
+            if (persons.count(string) == 0) {
+                forEachTrigram(string, trigram -> stringsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>())
+                        .add(string));
+            }
+        }
+        persons.add(person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        persons.remove(person);
+        for (String string : stringExtractor.apply(person)) {
+            if (persons.count(string) == 0) {
+                forEachTrigram(string, trigram -> {
+                    Set<String> strings = stringsByTrigram.get(trigram);
+                    if (strings != null) {
+                        strings.remove(string);
+                        if (strings.isEmpty()) {
+                            stringsByTrigram.remove(trigram);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        persons.clear();
+        stringsByTrigram.clear();
+    }
+
+    /**
+     * Returns the persons that have a string containing {@code needle}.
+     * The returned set is a fresh, modifiable set that compares persons by reference.
+     */
+    public Set<Person> getContaining(String needle) {
+        requireNonNull(needle);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String string : getStringsToCheck(needle)) {
+            if (string.contains(needle)) {
+                matches.addAll(persons.get(string));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the distinct strings that may contain {@code needle}.
+     */
+    private Collection<String> getStringsToCheck(String needle) {
+        if (needle.length() < GRAM_LENGTH) {
+            return persons.keys();
+        }
+        Set<String> rarest = null;
+        for (int i = 0; i + GRAM_LENGTH <= needle.length(); i++) {
+            Set<String> strings = stringsByTrigram.get(needle.substring(i, i + GRAM_LENGTH));
+            if (strings == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || strings.size() < rarest.size()) {
+                rarest = strings;
+            }
+        }
+        return rarest;
+    }
+
+    private static void forEachTrigram(String string, Consumer<String> action) {
+        for (int i = 0; i + GRAM_LENGTH <= string.length(); i++) {
+            action.accept(string.substring(i, i + GRAM_LENGTH));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps a key that no two persons may share to the person that has it.
+ * The key of a person is given by a key extractor, e.g. {@code person -> person.getEmail().value}.
+ *
+ * @param <K> type of the keys, which must have value-based {@code equals} and {@code hashCode}.
+ */
+public class UniqueIndex<K> implements PersonIndex {
+
+    private final Function<Person, ? extends K> keyExtractor;
+    private final Map<K, Person> persons = new HashMap<>();
+
+    /**
+     * Creates an empty index whose key for each person is given by {@code keyExtractor}.
+     */
+    public UniqueIndex(Function<Person, ? extends K> keyExtractor) {
+        this.keyExtractor = requireNonNull(keyExtractor);
+    }
+
+    @Override
+    public void add(Person person) {
+        persons.put(keyExtractor.apply(person), person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        // Only forget the key if it still belongs to this person.
+        persons.remove(keyExtractor.apply(person), person);
+    }
+
+    @Override
+    public void clear() {
+        persons.clear();
+    }
+
+    /**
+     * Returns the person that has {@code key}, if any.
+     */
+    public Optional<Person> get(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(persons.get(key));
+    }
+
+    /**
+     * Returns true if the key of {@code person} belongs to a person other than {@code except}.
+     * Persons are told apart by {@link Person#isSamePerson(Person)}; {@code except} may be null.
+     */
+    public boolean isTakenByOther(Person person, Person except) {
+        requireNonNull(person);
+        Person holder = persons.get(keyExtractor.apply(person));
+        return holder != null && (except == null || !holder.isSamePerson(except));
+    }
+
+    /**
+     * Returns true if two different persons among {@code persons} have the same key.
+     * Persons with the same identity are not counted, as they are duplicates rather than conflicts.
+     */
+    public boolean hasConflictingKeys(Collection<Person> persons) {
+        requireNonNull(persons);
+        Map<K, Person> seen = new HashMap<>();
+        for (Person person : persons) {
+            Person holder = seen.putIfAbsent(keyExtractor.apply(person), person);
+            if (holder != null && !holder.isSamePerson(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,309 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the persons in a source list that satisfy a predicate, kept up to date as the source changes.
+ *
+ * <p>Unlike {@code FilteredList}, the view keeps its predicate across any change to the source and only tests
+ * the persons that changed. Each change to the source is passed on as the smallest change to the view: a person
+ * replaced in the source is replaced in the view if both the old and the new person are shown, and is otherwise
+ * added to or removed from the view. Setting a new predicate likewise only adds and removes the persons whose
+ * visibility changed, so that a list view showing this list only updates the cells that changed.
+ *
+ * <p>The view stores the source positions of the persons it shows in ascending order, so a person is looked up
+ * by binary search, and only the positions after a person added to or removed from the source have to move.
+ */
+public class FilteredPersonList extends TransformationList<Person, Person> {
+
+    private Predicate<? super Person> predicate;
+    private int[] shown;
+    private int size;
+
+    /**
+     * Creates a view of the persons in {@code source} that satisfy {@code predicate}.
+     */
+    public FilteredPersonList(ObservableList<Person> source, Predicate<? super Person> predicate) {
+        super(source);
+        this.predicate = requireNonNull(predicate);
+        this.shown = new int[Math.max(source.size(), 16)];
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                shown[size++] = i;
+            }
+        }
+    }
+
+    /**
+     * Returns the predicate the persons in this view satisfy.
+     */
+    public Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons in the source that satisfy {@code predicate}, now and after any later change.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        setPredicate(predicate, predicate);
+    }
+
+    /**
+     * Shows the persons now in the source that satisfy {@code currentMatches}, and tests persons added or changed
+     * later with {@code predicate} alone. {@code currentMatches} must only accept persons that satisfy
+     * {@code predicate}. It is usually a faster test that agrees with {@code predicate} on every person now in
+     * the source, e.g. membership in a set of matches found through an index, which shows the same persons as
+     * {@link #setPredicate(Predicate)}. It may also accept only some of those persons, e.g. the best-ranked
+     * matches of a search; the others are then only shown once they change and satisfy {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super Person> predicate, Predicate<? super Person> currentMatches) {
+        requireNonNull(predicate);
+        requireNonNull(currentMatches);
+
+        ObservableList<? extends Person> source = getSource();
+        int[] matches = new int[Math.max(source.size(), 16)];
+        int matchCount = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (currentMatches.test(source.get(i))) {
+                matches[matchCount++] = i;
+            }
+        }
+        show(predicate, matches, matchCount);
+    }
+
+    /**
+     * Shows the persons in the source that satisfy {@code predicate}, like {@link #setPredicate(Predicate)},
+     * given that {@code sourcePositions} holds the positions in the source of the persons now satisfying it,
+     * in ascending order. No person is tested.
+     */
+    public void setPredicate(Predicate<? super Person> predicate, int[] sourcePositions) {
+        requireNonNull(predicate);
+        requireNonNull(sourcePositions);
+        show(predicate, Arrays.copyOf(sourcePositions, Math.max(sourcePositions.length, 16)),
+                sourcePositions.length);
+    }
+
+    /**
+     * Returns the positions in the source of the persons in this view, in ascending order.
+     */
+    public int[] getSourcePositions() {
+        return Arrays.copyOf(shown, size);
+    }
+
+    /**
+     * Shows the persons at the first {@code matchCount} source positions in {@code matches}, which now belongs to
+     * this view, and tests later changes with {@code predicate}.
+     */
+    private void show(Predicate<? super Person> predicate, int[] matches, int matchCount) {
+        this.predicate = predicate;
+        ObservableList<? extends Person> source = getSource();
+
+        // Both lists of positions are in ascending order, so one merge finds the persons to hide and to show.
+        beginChange();
+        int viewIndex = 0;
+        int oldIndex = 0;
+        int newIndex = 0;
+        while (oldIndex < size || newIndex < matchCount) {
+            int oldPosition = oldIndex < size ? shown[oldIndex] : Integer.MAX_VALUE;
+            int newPosition = newIndex < matchCount ? matches[newIndex] : Integer.MAX_VALUE;
+            if (oldPosition == newPosition) {
+                oldIndex++;
+                newIndex++;
+                viewIndex++;
+            } else if (oldPosition < newPosition) {
+                nextRemove(viewIndex, source.get(oldPosition));
+                oldIndex++;
+            } else {
+                nextAdd(viewIndex, viewIndex + 1);
+                newIndex++;
+                viewIndex++;
+            }
+        }
+        shown = matches;
+        size = matchCount;
+        endChange();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Person get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(shown[index]);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return shown[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = find(index);
+        return position >= 0 ? position : -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    retest(i, getSource().get(i), true);
+                }
+            } else {
+                replace(change.getFrom(), change.getRemoved(), change.getAddedSize());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on the replacement of {@code removed} at source position {@code from} with {@code addedSize} persons.
+     * Persons replaced one for one keep their position, so each pair is passed on as a single replacement.
+     */
+    private void replace(int from, List<? extends Person> removed, int addedSize) {
+        int replacedSize = Math.min(removed.size(), addedSize);
+        for (int i = 0; i < replacedSize; i++) {
+            retest(from + i, removed.get(i), false);
+        }
+        if (removed.size() > replacedSize) {
+            removeRange(from + replacedSize, removed.subList(replacedSize, removed.size()));
+        } else if (addedSize > replacedSize) {
+            addRange(from + replacedSize, addedSize - replacedSize);
+        }
+    }
+
+    /**
+     * Tests the person at source position {@code sourceIndex} again, where {@code old} used to be.
+     * If {@code isUpdate}, the person is the same one as before and has only changed in place.
+     */
+    private void retest(int sourceIndex, Person old, boolean isUpdate) {
+        int position = find(sourceIndex);
+        boolean wasShown = position >= 0;
+        boolean isShown = predicate.test(getSource().get(sourceIndex));
+        if (wasShown && isShown) {
+            if (isUpdate) {
+                nextUpdate(position);
+            } else {
+                nextSet(position, old);
+            }
+        } else if (wasShown) {
+            System.arraycopy(shown, position + 1, shown, position, size - position - 1);
+            size--;
+            nextRemove(position, old);
+        } else if (isShown) {
+            int insertAt = -position - 1;
+            ensureCapacity(size + 1);
+            System.arraycopy(shown, insertAt, shown, insertAt + 1, size - insertAt);
+            shown[insertAt] = sourceIndex;
+            size++;
+            nextAdd(insertAt, insertAt + 1);
+        }
+    }
+
+    /**
+     * Passes on the removal of {@code removed} from source position {@code from}.
+     */
+    private void removeRange(int from, List<? extends Person> removed) {
+        int start = insertionPoint(from);
+        int end = insertionPoint(from + removed.size());
+        if (end > start) {
+            Person[] hidden = new Person[end - start];
+            for (int i = start; i < end; i++) {
+                hidden[i - start] = removed.get(shown[i] - from);
+            }
+            nextRemove(start, Arrays.asList(hidden));
+        }
+        for (int i = end; i < size; i++) {
+            shown[i - (end - start)] = shown[i] - removed.size();
+        }
+        size -= end - start;
+    }
+
+    /**
+     * Passes on the addition of {@code count} persons at source position {@code from}.
+     */
+    private void addRange(int from, int count) {
+        int start = insertionPoint(from);
+        int matchCount = 0;
+        int[] matches = new int[count];
+        for (int i = from; i < from + count; i++) {
+            if (predicate.test(getSource().get(i))) {
+                matches[matchCount++] = i;
+            }
+        }
+
+        ensureCapacity(size + matchCount);
+        for (int i = size - 1; i >= start; i--) {
+            shown[i + matchCount] = shown[i] + count;
+        }
+        System.arraycopy(matches, 0, shown, start, matchCount);
+        size += matchCount;
+        if (matchCount > 0) {
+            nextAdd(start, start + matchCount);
+        }
+    }
+
+    private void permute(Change<? extends Person> change) {
+        int from = insertionPoint(change.getFrom());
+        int to = insertionPoint(change.getTo());
+        if (to <= from) {
+            return;
+        }
+
+        // Pairs each person's new source position with its old view position, and sorts them by the former.
+        long[] moves = new long[to - from];
+        for (int i = from; i < to; i++) {
+            moves[i - from] = ((long) change.getPermutation(shown[i]) << 32) | i;
+        }
+        Arrays.sort(moves);
+        int[] permutation = new int[to - from];
+        for (int i = from; i < to; i++) {
+            long move = moves[i - from];
+            shown[i] = (int) (move >>> 32);
+            permutation[(int) move - from] = i;
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    /**
+     * Returns the view position of source position {@code sourceIndex},
+     * or {@code -(insertion point) - 1} if the person there is not shown.
+     */
+    private int find(int sourceIndex) {
+        return Arrays.binarySearch(shown, 0, size, sourceIndex);
+    }
+
+    /**
+     * Returns the view position of the first shown person at or after source position {@code sourceIndex}.
+     */
+    private int insertionPoint(int sourceIndex) {
+        int position = find(sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > shown.length) {
+            shown = Arrays.copyOf(shown, Math.max(capacity, shown.length * 2));
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package seedu.address.model.person;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.predicate.IndexedPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +28,20 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public Optional<Collection<Person>> getCandidates(AddressBook addressBook) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            String word = keyword.trim();
+            if (word.isEmpty() || StringUtil.splitWords(word).length != 1) {
+                // Leave malformed keywords to test(), which rejects them.
+                return Optional.empty();
+            }
+            candidates.addAll(addressBook.getPersonsWithNameWord(word));
+        }
+        return Optional.of(candidates);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -37,6 +57,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -1,33 +1,47 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Category;
+import seedu.address.model.tag.Category.CategoryType;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * <p>A person has at most one category of each {@link CategoryType}, kept in a slot per type, and stores
+ * its skills as a sorted array of {@link SkillDictionary} ids. Both are exposed as read-only {@code Set} views.
  */
 public class Person {
 
+    public static final String MESSAGE_ONE_CATEGORY_PER_TYPE =
+            "An employee can only belong to one department, one team and one role.";
+
+    private static final CategoryType[] CATEGORY_TYPES = CategoryType.values();
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     // Additional attributes
-    private final Set<Category> categories = new HashSet<>();
-    private final Set<Skill> skills = new HashSet<>();
+    private final Category[] categorySlots = new Category[CATEGORY_TYPES.length];
+    private final int[] skillIds;
 
     /**
      * Every field must be present and not null.
+     * {@code categories} must not contain two categories of the same type.
      */
     public Person(Name name, Phone phone, Email email,
                   Set<Category> categories, Set<Skill> skills) {
@@ -36,8 +50,21 @@ public class Person {
         this.phone = phone;
         this.email = email;
 
-        this.categories.addAll(categories);
-        this.skills.addAll(skills);
+        for (Category category : categories) {
+            int slot = category.getCategoryType().ordinal();
+            checkArgument(categorySlots[slot] == null, MESSAGE_ONE_CATEGORY_PER_TYPE);
+            // Persons share the canonical instances, as a large address book only has a few distinct ones.
+            categorySlots[slot] = category.intern();
+        }
+        skillIds = skills.stream().mapToInt(SkillDictionary::idOf).sorted().distinct().toArray();
+    }
+
+    /**
+     * Returns true if {@code categories} has at most one category of each type.
+     */
+    public static boolean hasOneCategoryPerType(Set<Category> categories) {
+        Objects.requireNonNull(categories);
+        return categories.stream().map(Category::getCategoryType).distinct().count() == categories.size();
     }
 
     public Name getName() {
@@ -57,7 +84,14 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Category> getCategories() {
-        return Collections.unmodifiableSet(categories);
+        return Collections.unmodifiableSet(new CategorySet());
+    }
+
+    /**
+     * Returns the category of the given {@code type}, or null if this person has none.
+     */
+    public Category getCategory(CategoryType type) {
+        return categorySlots[type.ordinal()];
     }
 
     /**
@@ -65,7 +99,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Skill> getSkills() {
-        return Collections.unmodifiableSet(skills);
+        return Collections.unmodifiableSet(new SkillSet());
     }
 
     /**
@@ -73,6 +107,8 @@ public class Person {
      * including their categories and skills, suitable for confirmation dialogs.
      */
     public String toSummaryString() {
+        Set<Category> categories = getCategories();
+        Set<Skill> skills = getSkills();
         StringBuilder sb = new StringBuilder();
         sb.append(name.fullName).append(" (");
 
@@ -137,14 +173,14 @@ public class Person {
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
-                && categories.equals(otherPerson.categories)
-                && skills.equals(otherPerson.skills);
+                && Arrays.equals(categorySlots, otherPerson.categorySlots)
+                && Arrays.equals(skillIds, otherPerson.skillIds);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, categories, skills);
+        return Objects.hash(name, phone, email, Arrays.hashCode(categorySlots), Arrays.hashCode(skillIds));
     }
 
     @Override
@@ -153,8 +189,96 @@ public class Person {
                 .add("name", name)
                 .add("phone", phone)
                 .add("email", email)
-                .add("categories", categories)
-                .add("skills", skills)
+                .add("categories", getCategories())
+                .add("skills", getSkills())
                 .toString();
     }
+
+    /**
+     * A view of the category slots of this person, to be wrapped as an unmodifiable set.
+     */
+    private class CategorySet extends AbstractSet<Category> {
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Category category && category.equals(getCategory(category.getCategoryType()));
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (Category category : categorySlots) {
+                size += category == null ? 0 : 1;
+            }
+            return size;
+        }
+
+        @Override
+        public Iterator<Category> iterator() {
+            return new Iterator<>() {
+                private int next = nextSlot(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next < categorySlots.length;
+                }
+
+                @Override
+                public Category next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Category category = categorySlots[next];
+                    next = nextSlot(next + 1);
+                    return category;
+                }
+            };
+        }
+
+        private int nextSlot(int from) {
+            int slot = from;
+            while (slot < categorySlots.length && categorySlots[slot] == null) {
+                slot++;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * A view of the skill ids of this person, to be wrapped as an unmodifiable set.
+     */
+    private class SkillSet extends AbstractSet<Skill> {
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Skill skill)) {
+                return false;
+            }
+            int id = SkillDictionary.findId(skill);
+            return id >= 0 && Arrays.binarySearch(skillIds, id) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return skillIds.length;
+        }
+
+        @Override
+        public Iterator<Skill> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < skillIds.length;
+                }
+
+                @Override
+                public Skill next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return SkillDictionary.get(skillIds[next++]);
+                }
+            };
+        }
+    }
 }
@@ -1,12 +1,19 @@
 package seedu.address.model.person;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.predicate.IndexedPredicate;
+
 /**
  * Predicate that checks whether a {@link Person} matches the provided
  * skill and/or category keyword lists.
@@ -24,8 +31,10 @@ import java.util.stream.Collectors;
  * </ul>
  *
  * <p>If a dimension's list is empty, that dimension is treated as "no filter".</p>
+ *
+ * <p>Candidates are looked up in the trigram indexes of the address book rather than by scanning every person.</p>
  */
-public class PersonMatchesListFiltersPredicate implements Predicate<Person> {
+public class PersonMatchesListFiltersPredicate implements IndexedPredicate {
 
     private final List<String> skillNeedles; // already lower-cased
     private final List<String> categoryNeedles; // already lower-cased
@@ -41,19 +50,53 @@ public class PersonMatchesListFiltersPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        boolean skillOk = skillNeedles.isEmpty()
-                || collectionToLowerStrings(person.getSkills())
-                    .stream().anyMatch(val -> containsAny(val, skillNeedles));
+        boolean skillOk = skillNeedles.isEmpty() || anyContainsAny(person.getSkills(), skillNeedles);
 
-        boolean categoryOk = categoryNeedles.isEmpty()
-                || collectionToLowerStrings(person.getCategories())
-                    .stream().anyMatch(val -> containsAny(val, categoryNeedles));
+        boolean categoryOk = categoryNeedles.isEmpty() || anyContainsAny(person.getCategories(), categoryNeedles);
 
         return skillOk && categoryOk;
     }
 
+    @Override
+    public Optional<Collection<Person>> getCandidates(AddressBook addressBook) {
+        if (skillNeedles.isEmpty() && categoryNeedles.isEmpty()) {
+            return Optional.empty();
+        }
+        if (categoryNeedles.isEmpty()) {
+            return Optional.of(union(skillNeedles, addressBook::getPersonsWithSkillContaining));
+        }
+        Set<Person> categoryMatches = union(categoryNeedles, addressBook::getPersonsWithCategoryContaining);
+        if (skillNeedles.isEmpty()) {
+            return Optional.of(categoryMatches);
+        }
+        categoryMatches.retainAll(union(skillNeedles, addressBook::getPersonsWithSkillContaining));
+        return Optional.of(categoryMatches);
+    }
+
     // --- Helpers ---
 
+    /** Returns the persons that {@code lookup} finds for any of {@code needles}, compared by reference. */
+    private static Set<Person> union(List<String> needles, Function<String, Set<Person>> lookup) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String needle : needles) {
+            matches.addAll(lookup.apply(needle));
+        }
+        return matches;
+    }
+
+    /** Returns true if the lower-cased string of any of {@code values} contains any of {@code needlesLower}. */
+    private static boolean anyContainsAny(Collection<?> values, List<String> needlesLower) {
+        if (values == null) {
+            return false;
+        }
+        for (Object value : values) {
+            if (containsAny(toLowerString(value), needlesLower)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean containsAny(String haystackLower, List<String> needlesLower) {
         for (String n : needlesLower) {
             if (haystackLower.contains(n)) {
@@ -63,15 +106,9 @@ public class PersonMatchesListFiltersPredicate implements Predicate<Person> {
         return false;
     }
 
-    /** Convert a collection of domain objects (e.g., Skill/Category) into lower-cased strings. */
-    private static List<String> collectionToLowerStrings(Collection<?> values) {
-        if (values == null) {
-            return List.of();
-        }
-        return values.stream()
-                .map(o -> o == null ? "" : o.toString())
-                .map(s -> s.toLowerCase(Locale.ROOT))
-                .collect(Collectors.toList());
+    /** Converts a domain object (e.g., Skill/Category) into a lower-cased string. */
+    private static String toLowerString(Object value) {
+        return value == null ? "" : value.toString().toLowerCase(Locale.ROOT);
     }
 
     private static List<String> toLower(List<String> xs) {
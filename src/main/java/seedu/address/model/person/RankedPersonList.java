@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the persons in a source list, either in the same order or sorted by a comparator.
+ *
+ * <p>Unlike {@code SortedList}, the view passes each change to the source on as it is while it is not sorted,
+ * however many persons the source holds. It is meant to sort short lists, such as ranked search results: while it
+ * is sorted, any change to the source sorts the whole view again and is passed on as a replacement of the view.
+ */
+public class RankedPersonList extends TransformationList<Person, Person> {
+
+    private Comparator<? super Person> order;
+    private int[] sorted;
+    private List<Person> sortedPersons;
+
+    /**
+     * Creates a view of the persons in {@code source}, in the same order.
+     */
+    public RankedPersonList(ObservableList<Person> source) {
+        super(source);
+    }
+
+    /**
+     * Returns the order of the persons in this view, or null if they are in the order of the source.
+     */
+    public Comparator<? super Person> getOrder() {
+        return order;
+    }
+
+    /**
+     * Sorts the persons in this view by {@code order}, keeping persons that compare equal in the order of the
+     * source, or shows them in the order of the source if {@code order} is null.
+     */
+    public void setOrder(Comparator<? super Person> order) {
+        if (order == null && this.order == null) {
+            return;
+        }
+        int[] oldSorted = sorted;
+        this.order = order;
+        sorted = order == null ? null : sort();
+        if (order == null) {
+            sortedPersons = null;
+        }
+
+        // Both arrangements hold the same persons, so the view changes by a permutation.
+        int size = size();
+        int[] viewIndexes = new int[getSource().size()];
+        for (int i = 0; i < size; i++) {
+            viewIndexes[sorted == null ? i : sorted[i]] = i;
+        }
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = viewIndexes[oldSorted == null ? i : oldSorted[i]];
+        }
+        if (size > 0) {
+            beginChange();
+            nextPermutation(0, size, permutation);
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the positions in the source of the persons in {@code order}, and keeps a copy of those persons
+     * so that they can be passed on as removed when the source next changes.
+     */
+    private int[] sort() {
+        ObservableList<? extends Person> source = getSource();
+        Integer[] positions = new Integer[source.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        // Arrays.sort on objects is stable, so persons that compare equal keep the order of the source.
+        Arrays.sort(positions, (first, second) -> order.compare(source.get(first), source.get(second)));
+        sortedPersons = new ArrayList<>(positions.length);
+        for (Integer position : positions) {
+            sortedPersons.add(source.get(position));
+        }
+        return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public Person get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return sorted == null ? index : sorted[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (sorted == null) {
+            return index;
+        }
+        // The view is only sorted while it is short.
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i] == index) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> change) {
+        beginChange();
+        if (sorted == null) {
+            passOn(change);
+        } else {
+            List<Person> removed = sortedPersons;
+            sorted = sort();
+            nextReplace(0, sorted.length, removed);
+        }
+        endChange();
+    }
+
+    private void passOn(Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+    }
+}
@@ -50,6 +50,13 @@ public class Skill {
         return test != null && test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the canonical instance of this skill, so that persons with the same skill can share one object.
+     */
+    public Skill intern() {
+        return SkillDictionary.get(SkillDictionary.idOf(this));
+    }
+
     /**
      * Returns the skill name as a string.
      *
@@ -82,7 +89,7 @@ public class Skill {
      */
     @Override
     public int hashCode() {
-        return skillName.toLowerCase().hashCode(); // case-insensitive
+        return skillName.hashCode(); // case-insensitive, as skillName is already lower-cased
     }
 }
 
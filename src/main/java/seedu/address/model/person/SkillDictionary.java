@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Numbers every distinct skill in the model, so that a person can store its skills as a sorted array of ids.
+ * Each id also maps back to the canonical instance of its skill.
+ *
+ * <p>Ids are never reused, so the dictionary only grows. This is fine as an address book only has a few
+ * hundred distinct skills. It is safe to use from multiple threads.
+ */
+final class SkillDictionary {
+
+    private static final Map<Skill, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile Skill[] skillsById = new Skill[16];
+    private static int size = 0;
+
+    private SkillDictionary() {} // prevents instantiation
+
+    /**
+     * Returns the id of {@code skill}, assigning it the next id if it has none yet.
+     */
+    static int idOf(Skill skill) {
+        requireNonNull(skill);
+        Integer id = IDS.get(skill);
+        return id != null ? id : register(skill);
+    }
+
+    /**
+     * Returns the id of {@code skill}, or -1 if it has none.
+     */
+    static int findId(Skill skill) {
+        requireNonNull(skill);
+        return IDS.getOrDefault(skill, -1);
+    }
+
+    /**
+     * Returns the canonical instance of the skill with the given {@code id}.
+     */
+    static Skill get(int id) {
+        return skillsById[id];
+    }
+
+    private static synchronized int register(Skill skill) {
+        Integer existing = IDS.get(skill);
+        if (existing != null) {
+            return existing;
+        }
+        int id = size;
+        Skill[] grown = id < skillsById.length ? skillsById : Arrays.copyOf(skillsById, id * 2);
+        grown[id] = skill;
+        skillsById = grown; // publishes the skill before its id becomes visible
+        size++;
+        IDS.put(skill, id);
+        return id;
+    }
+}
@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +25,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are answered by a hash index on the normalized (name, email, phone) identity of each person,
+ * which is kept in sync with the backing list so that duplicate detection is O(1) per person. The index also
+ * records the position of every person, so updates and removals find their slot without scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +38,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Slot> slots = new HashMap<>();
+    private final List<Slot> slotsByPosition = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slots.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -42,9 +55,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        IdentityKey key = new IdentityKey(toAdd);
+        if (slots.containsKey(key)) {
             throw new DuplicatePersonException();
         }
+
+        Slot slot = new Slot(key, internalList.size());
+        slots.put(key, slot);
+        slotsByPosition.add(slot);
         internalList.add(toAdd);
     }
 
@@ -52,35 +70,52 @@ public class UniquePersonList implements Iterable<Person> {
      * Replaces the person {@code target} in the list with {@code updatedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code updatedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person instance that was replaced.
      */
-    public void setPerson(Person target, Person updatedPerson) {
+    public Person setPerson(Person target, Person updatedPerson) {
         requireAllNonNull(target, updatedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        Slot slot = findSlot(target);
 
-        if (!target.isSamePerson(updatedPerson) && contains(updatedPerson)) {
-            throw new DuplicatePersonException();
+        IdentityKey updatedKey = new IdentityKey(updatedPerson);
+        if (!slot.key.equals(updatedKey)) {
+            if (slots.containsKey(updatedKey)) {
+                throw new DuplicatePersonException();
+            }
+            Slot updatedSlot = new Slot(updatedKey, slot.position);
+            slots.remove(slot.key);
+            slots.put(updatedKey, updatedSlot);
+            slotsByPosition.set(slot.position, updatedSlot);
         }
 
-        internalList.set(index, updatedPerson);
+        return internalList.set(slot.position, updatedPerson);
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the person instance that was removed.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+
+        Slot slot = findSlot(toRemove);
+        int position = slot.position;
+
+        slots.remove(slot.key);
+        slotsByPosition.remove(position);
+        // Only the persons after the removed one move, and each of them moves up by exactly one slot.
+        for (int i = position; i < slotsByPosition.size(); i++) {
+            slotsByPosition.get(i).position = i;
         }
+        return internalList.remove(position);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        setSlots(replacement.slotsByPosition.stream().map(slot -> slot.key).collect(Collectors.toList()));
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +125,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<IdentityKey> keys = new ArrayList<>(persons.size());
+        Set<IdentityKey> seen = new HashSet<>(persons.size() * 4 / 3 + 1);
+        for (Person person : persons) {
+            IdentityKey key = new IdentityKey(person);
+            if (!seen.add(key)) {
+                throw new DuplicatePersonException();
+            }
+            keys.add(key);
         }
 
+        setSlots(keys);
         internalList.setAll(persons);
     }
 
@@ -135,16 +177,81 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the slot holding a person equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person in the list.
+     */
+    private Slot findSlot(Person person) {
+        Slot slot = slots.get(new IdentityKey(person));
+        if (slot == null || !internalList.get(slot.position).equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return slot;
+    }
+
+    /**
+     * Rebuilds the slot index for a list whose persons have the given identity {@code keys}, in order.
+     */
+    private void setSlots(List<IdentityKey> keys) {
+        slots.clear();
+        slotsByPosition.clear();
+        for (IdentityKey key : keys) {
+            Slot slot = new Slot(key, slotsByPosition.size());
+            slots.put(key, slot);
+            slotsByPosition.add(slot);
+        }
+    }
+
+    /**
+     * The position of a person in the backing list, looked up through its identity.
+     */
+    private static final class Slot {
+        private final IdentityKey key;
+        private int position;
+
+        Slot(IdentityKey key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Hash key for the identity fields compared by {@link Person#isSamePerson(Person)}.
+     * Names are compared case-insensitively, so they are lower-cased here to keep the key consistent with it.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static final class IdentityKey {
+        private final String name;
+        private final String email;
+        private final String phone;
+        private final int hash;
+
+        IdentityKey(Person person) {
+            this.name = person.getName().fullName.toLowerCase();
+            this.email = person.getEmail().value;
+            this.phone = person.getPhone().value;
+            this.hash = Objects.hash(name, email, phone);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
             }
+
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return hash == otherKey.hash
+                    && name.equals(otherKey.name)
+                    && email.equals(otherKey.email)
+                    && phone.equals(otherKey.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
-        return true;
     }
 }
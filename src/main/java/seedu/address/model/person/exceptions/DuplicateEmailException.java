@@ -0,0 +1,10 @@
+package seedu.address.model.person.exceptions;
+
+/**
+ * Signals that the operation will result in two Persons with the same email.
+ */
+public class DuplicateEmailException extends RuntimeException {
+    public DuplicateEmailException() {
+        super("Operation would result in persons with the same email");
+    }
+}
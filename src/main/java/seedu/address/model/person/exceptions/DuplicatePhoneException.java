@@ -0,0 +1,10 @@
+package seedu.address.model.person.exceptions;
+
+/**
+ * Signals that the operation will result in two Persons with the same phone number.
+ */
+public class DuplicatePhoneException extends RuntimeException {
+    public DuplicatePhoneException() {
+        super("Operation would result in persons with the same phone number");
+    }
+}
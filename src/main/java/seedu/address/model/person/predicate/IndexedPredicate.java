@@ -0,0 +1,23 @@
+package seedu.address.model.person.predicate;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can use the indexes maintained by {@link AddressBook} to find the persons
+ * that may satisfy it without testing every person in the address book.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code addressBook} that may satisfy this predicate,
+     * or {@code Optional.empty()} if the indexes cannot narrow down the search.
+     * Every person that satisfies this predicate must be among the candidates, but candidates
+     * still have to be checked with {@link #test(Object)}.
+     */
+    Optional<Collection<Person>> getCandidates(AddressBook addressBook);
+}
@@ -1,8 +1,12 @@
 package seedu.address.model.person.predicate;
 
-import java.util.function.Predicate;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
 
 /**
  * Tests that a {@code Person}'s skills contain the given skill name.
@@ -10,7 +14,7 @@ import seedu.address.model.person.Person;
  */
 
 
-public class PersonHasTagPredicate implements Predicate<Person> {
+public class PersonHasTagPredicate implements IndexedPredicate {
     private final String skillName;
 
     public PersonHasTagPredicate(String skillName) {
@@ -23,6 +27,14 @@ public class PersonHasTagPredicate implements Predicate<Person> {
                 .anyMatch(skill -> skill.skillName.equalsIgnoreCase(skillName));
     }
 
+    @Override
+    public Optional<Collection<Person>> getCandidates(AddressBook addressBook) {
+        if (!Skill.isValidSkillName(skillName.trim())) {
+            return Optional.empty();
+        }
+        return Optional.of(addressBook.getPersonsWithSkill(new Skill(skillName)));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
@@ -30,6 +42,11 @@ public class PersonHasTagPredicate implements Predicate<Person> {
                 && skillName.equalsIgnoreCase(((PersonHasTagPredicate) other).skillName));
     }
 
+    @Override
+    public int hashCode() {
+        return skillName.toLowerCase(Locale.ROOT).hashCode();
+    }
+
     @Override
     public String toString() {
         return "skills/" + skillName;
@@ -0,0 +1,314 @@
+package seedu.address.model.person.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Skill;
+
+/**
+ * A boolean combination of conditions on the fields of a person,
+ * e.g. {@code skill:java AND (team:alpha OR dept:eng) AND NOT role:intern}.
+ *
+ * <p>A term compares one field against a value: a name must contain every word of the value, an email or phone
+ * number must equal it, a skill must be among the person's skills, and a category must start with it. All but
+ * email and phone numbers are compared ignoring case. An expression can be tested against one person, or planned
+ * against an address book to find the persons that may satisfy it through the address book indexes.
+ */
+public abstract class QueryExpression {
+
+    /**
+     * Returns true if {@code person} satisfies this expression.
+     */
+    public abstract boolean matches(Person person);
+
+    /**
+     * Returns the plan for finding the persons in {@code addressBook} that satisfy this expression.
+     */
+    public QueryPlan plan(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        return QueryPlan.verify(planInputs(addressBook), addressBook.getPersonList().size());
+    }
+
+    /**
+     * Returns the plan for finding the candidates for this expression, without checking them.
+     */
+    abstract QueryPlan planInputs(AddressBook addressBook);
+
+    /**
+     * Returns an expression satisfied by persons whose {@code field} matches {@code value}.
+     * A skill value must be a valid skill name, and an email or phone value a valid email or phone number.
+     */
+    public static QueryExpression of(QueryField field, String value) {
+        return new Term(field, value);
+    }
+
+    /**
+     * Returns an expression satisfied by persons that satisfy both this expression and {@code other}.
+     */
+    public QueryExpression and(QueryExpression other) {
+        return new And(this, other);
+    }
+
+    /**
+     * Returns an expression satisfied by persons that satisfy this expression, {@code other} or both.
+     */
+    public QueryExpression or(QueryExpression other) {
+        return new Or(this, other);
+    }
+
+    /**
+     * Returns an expression satisfied by persons that do not satisfy this expression.
+     */
+    public QueryExpression negate() {
+        return new Not(this);
+    }
+
+    /**
+     * Persons whose field matches a value.
+     */
+    private static class Term extends QueryExpression {
+        private final QueryField field;
+        private final String value;
+
+        Term(QueryField field, String value) {
+            this.field = requireNonNull(field);
+            String trimmed = value.trim();
+            boolean isExact = field == QueryField.EMAIL || field == QueryField.PHONE;
+            this.value = isExact ? trimmed : trimmed.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            switch (field) {
+            case NAME:
+                String name = person.getName().fullName;
+                return Arrays.stream(StringUtil.splitWords(value))
+                        .allMatch(word -> StringUtil.containsWordIgnoreCase(name, word));
+            case EMAIL:
+                return person.getEmail().value.equals(value);
+            case PHONE:
+                return person.getPhone().value.equals(value);
+            case SKILL:
+                return person.getSkills().contains(new Skill(value));
+            default:
+                return person.getCategories().stream().anyMatch(category ->
+                        category.getCategoryType() == field.getCategoryType() && isPrefixOf(category.getValue()));
+            }
+        }
+
+        @Override
+        QueryPlan planInputs(AddressBook addressBook) {
+            String operation = "Index lookup " + this;
+            switch (field) {
+            case NAME:
+                // Every word must be in the name, so the persons with the rarest word are enough.
+                Set<Person> rarest = Arrays.stream(StringUtil.splitWords(value))
+                        .map(addressBook::getPersonsWithNameWord)
+                        .min(Comparator.comparingInt(Set::size))
+                        .orElseThrow();
+                return QueryPlan.lookUp(operation, List.of(rarest));
+            case EMAIL:
+                return QueryPlan.lookUp(operation, List.of(addressBook.findPersonByEmail(new Email(value))
+                        .map(Set::of).orElse(Set.of())));
+            case PHONE:
+                return QueryPlan.lookUp(operation, List.of(addressBook.findPersonByPhone(new Phone(value))
+                        .map(Set::of).orElse(Set.of())));
+            case SKILL:
+                return QueryPlan.lookUp(operation, List.of(addressBook.getPersonsWithSkill(new Skill(value))));
+            default:
+                // A person has one value of each category, so the groups of different values never overlap.
+                List<Set<Person>> groups = addressBook.getCategoryGroups(field.getCategoryType()).entrySet().stream()
+                        .filter(group -> isPrefixOf(group.getKey()))
+                        .map(Map.Entry::getValue)
+                        .collect(Collectors.toList());
+                return QueryPlan.lookUp(operation, groups);
+            }
+        }
+
+        private boolean isPrefixOf(String categoryValue) {
+            return categoryValue.toLowerCase(Locale.ROOT).startsWith(value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Term
+                    && field == ((Term) other).field && value.equals(((Term) other).value));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, value);
+        }
+
+        @Override
+        public String toString() {
+            return field.getKeyword() + ":" + value;
+        }
+    }
+
+    /**
+     * Persons that satisfy both operands.
+     */
+    private static class And extends QueryExpression {
+        private final QueryExpression left;
+        private final QueryExpression right;
+
+        And(QueryExpression left, QueryExpression right) {
+            this.left = requireNonNull(left);
+            this.right = requireNonNull(right);
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return left.matches(person) && right.matches(person);
+        }
+
+        @Override
+        QueryPlan planInputs(AddressBook addressBook) {
+            List<QueryPlan> inputs = new ArrayList<>();
+            for (QueryExpression operand : getOperands(new ArrayList<>())) {
+                inputs.add(operand.planInputs(addressBook));
+            }
+            return QueryPlan.intersection("AND", inputs);
+        }
+
+        /**
+         * Adds the operands of this and any directly nested {@code AND} to {@code operands}, in order.
+         */
+        private List<QueryExpression> getOperands(List<QueryExpression> operands) {
+            for (QueryExpression operand : List.of(left, right)) {
+                if (operand instanceof And) {
+                    And nested = (And) operand;
+                    nested.getOperands(operands);
+                } else {
+                    operands.add(operand);
+                }
+            }
+            return operands;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof And
+                    && left.equals(((And) other).left) && right.equals(((And) other).right));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("AND", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    /**
+     * Persons that satisfy either operand.
+     */
+    private static class Or extends QueryExpression {
+        private final QueryExpression left;
+        private final QueryExpression right;
+
+        Or(QueryExpression left, QueryExpression right) {
+            this.left = requireNonNull(left);
+            this.right = requireNonNull(right);
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return left.matches(person) || right.matches(person);
+        }
+
+        @Override
+        QueryPlan planInputs(AddressBook addressBook) {
+            List<QueryPlan> inputs = new ArrayList<>();
+            for (QueryExpression operand : getOperands(new ArrayList<>())) {
+                inputs.add(operand.planInputs(addressBook));
+            }
+            return QueryPlan.union("OR", inputs);
+        }
+
+        /**
+         * Adds the operands of this and any directly nested {@code OR} to {@code operands}, in order.
+         */
+        private List<QueryExpression> getOperands(List<QueryExpression> operands) {
+            for (QueryExpression operand : List.of(left, right)) {
+                if (operand instanceof Or) {
+                    Or nested = (Or) operand;
+                    nested.getOperands(operands);
+                } else {
+                    operands.add(operand);
+                }
+            }
+            return operands;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Or
+                    && left.equals(((Or) other).left) && right.equals(((Or) other).right));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("OR", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    /**
+     * Persons that do not satisfy the operand.
+     */
+    private static class Not extends QueryExpression {
+        private final QueryExpression operand;
+
+        Not(QueryExpression operand) {
+            this.operand = requireNonNull(operand);
+        }
+
+        @Override
+        public boolean matches(Person person) {
+            return !operand.matches(person);
+        }
+
+        @Override
+        QueryPlan planInputs(AddressBook addressBook) {
+            return QueryPlan.scan("NOT", List.of(operand.planInputs(addressBook)));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("NOT", operand);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
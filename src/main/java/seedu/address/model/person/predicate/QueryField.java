@@ -0,0 +1,51 @@
+package seedu.address.model.person.predicate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.tag.Category.CategoryType;
+
+/**
+ * A field of a person that a {@link QueryExpression} can compare against, and the keywords that name it in a query.
+ */
+public enum QueryField {
+    NAME(null, "name"),
+    EMAIL(null, "email"),
+    PHONE(null, "phone"),
+    SKILL(null, "skill"),
+    DEPARTMENT(CategoryType.DEPARTMENT, "dept", "department"),
+    TEAM(CategoryType.TEAM, "team"),
+    ROLE(CategoryType.ROLE, "role");
+
+    private final CategoryType categoryType;
+    private final List<String> keywords;
+
+    QueryField(CategoryType categoryType, String... keywords) {
+        this.categoryType = categoryType;
+        this.keywords = List.of(keywords);
+    }
+
+    /**
+     * Returns the field named by {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<QueryField> fromKeyword(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(field -> field.keywords.contains(lowerCaseKeyword)).findFirst();
+    }
+
+    /**
+     * Returns the type of category this field compares against, or null if it is not a category.
+     */
+    public CategoryType getCategoryType() {
+        return categoryType;
+    }
+
+    /**
+     * Returns the keyword that names this field in a query.
+     */
+    public String getKeyword() {
+        return keywords.get(0);
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.model.person.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+
+/**
+ * How the persons that may satisfy a {@link QueryExpression} are found in an address book, with the number of
+ * persons each step is estimated to produce.
+ *
+ * <p>A plan is a tree whose leaves look up a single term in an address book index. An {@code AND} only has to look
+ * at the candidates of its most selective input that can use an index, an {@code OR} can use the indexes only if
+ * all of its inputs can, and a {@code NOT} never can. At the root, the candidates, or every person if no index can
+ * be used, are checked against the whole query, which verifies the terms that were not looked up.
+ */
+public class QueryPlan {
+
+    private static final int INDENT = 2;
+
+    private final String operation;
+    private final int estimate;
+    private final List<QueryPlan> inputs;
+    private final Supplier<Collection<Person>> candidates;
+    private final QueryPlan chosenInput;
+
+    private QueryPlan(String operation, int estimate, List<QueryPlan> inputs,
+            Supplier<Collection<Person>> candidates, QueryPlan chosenInput) {
+        this.operation = requireNonNull(operation);
+        this.estimate = estimate;
+        this.inputs = List.copyOf(inputs);
+        this.candidates = candidates;
+        this.chosenInput = chosenInput;
+    }
+
+    /**
+     * Returns a plan that looks up a term in an index, finding the persons in {@code groups}.
+     * The groups must not share any person.
+     */
+    static QueryPlan lookUp(String operation, List<Set<Person>> groups) {
+        int estimate = groups.stream().mapToInt(Set::size).sum();
+        Supplier<Collection<Person>> candidates = () -> {
+            if (groups.size() == 1) {
+                return groups.get(0);
+            }
+            List<Person> persons = new ArrayList<>(estimate);
+            groups.forEach(persons::addAll);
+            return persons;
+        };
+        return new QueryPlan(operation, estimate, List.of(), candidates, null);
+    }
+
+    /**
+     * Returns a plan for a term or an operator that cannot be answered from the indexes.
+     */
+    static QueryPlan scan(String operation, List<QueryPlan> inputs) {
+        return new QueryPlan(operation, -1, inputs, null, null);
+    }
+
+    /**
+     * Returns a plan for an {@code OR} of {@code inputs}, which finds the candidates of every input.
+     */
+    static QueryPlan union(String operation, List<QueryPlan> inputs) {
+        if (inputs.stream().anyMatch(input -> !input.isIndexed())) {
+            return scan(operation, inputs);
+        }
+        int estimate = inputs.stream().mapToInt(input -> input.estimate).sum();
+        Supplier<Collection<Person>> candidates = () -> {
+            Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>(estimate));
+            inputs.forEach(input -> persons.addAll(input.candidates.get()));
+            return persons;
+        };
+        return new QueryPlan(operation, estimate, inputs, candidates, null);
+    }
+
+    /**
+     * Returns a plan for an {@code AND} of {@code inputs}, which only finds the candidates of the input with the
+     * fewest estimated candidates.
+     */
+    static QueryPlan intersection(String operation, List<QueryPlan> inputs) {
+        QueryPlan mostSelective = null;
+        for (QueryPlan input : inputs) {
+            if (input.isIndexed() && (mostSelective == null || input.estimate < mostSelective.estimate)) {
+                mostSelective = input;
+            }
+        }
+        if (mostSelective == null) {
+            return scan(operation, inputs);
+        }
+        return new QueryPlan(operation, mostSelective.estimate, inputs, mostSelective.candidates, mostSelective);
+    }
+
+    /**
+     * Returns the plan for a whole query, which checks the query against the candidates found by {@code plan},
+     * or against all {@code personCount} persons if {@code plan} cannot use the indexes.
+     */
+    static QueryPlan verify(QueryPlan plan, int personCount) {
+        if (plan.isIndexed()) {
+            return new QueryPlan("Check the query on the candidates", plan.estimate, List.of(plan),
+                    plan.candidates, null);
+        }
+        return new QueryPlan("Check the query on every person", personCount, List.of(plan), null, null);
+    }
+
+    /**
+     * Returns true if this plan finds its candidates through the indexes.
+     */
+    public boolean isIndexed() {
+        return candidates != null;
+    }
+
+    /**
+     * Returns the estimated number of persons this step produces, or -1 if it cannot use the indexes.
+     * The estimates of index lookups are exact, and an {@code OR} is estimated at the sum of its inputs.
+     */
+    public int getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Returns the persons that may satisfy the query, if they can be found through the indexes.
+     */
+    public Optional<Collection<Person>> getCandidates() {
+        return Optional.ofNullable(candidates).map(Supplier::get);
+    }
+
+    /**
+     * Returns a description of this plan, one step per line, with the inputs of each step indented below it.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder();
+        explain(explanation, 0, false);
+        return explanation.toString();
+    }
+
+    private void explain(StringBuilder explanation, int depth, boolean isChosen) {
+        if (explanation.length() > 0) {
+            explanation.append('\n');
+        }
+        explanation.append(" ".repeat(depth * INDENT)).append(operation)
+                .append(estimate >= 0 ? String.format(" (est. %,d persons)", estimate) : " (no index)");
+        if (isChosen) {
+            explanation.append(" <- most selective");
+        }
+        for (QueryPlan input : inputs) {
+            input.explain(explanation, depth + 1, input == chosenInput && inputs.size() > 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+}
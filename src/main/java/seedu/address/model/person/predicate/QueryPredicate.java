@@ -0,0 +1,48 @@
+package seedu.address.model.person.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies a query over their fields.
+ * Example: query skill:java AND (team:alpha OR dept:eng) AND NOT role:intern
+ */
+public class QueryPredicate implements IndexedPredicate {
+    private final QueryExpression expression;
+
+    public QueryPredicate(QueryExpression expression) {
+        this.expression = requireNonNull(expression);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return expression.matches(person);
+    }
+
+    @Override
+    public Optional<Collection<Person>> getCandidates(AddressBook addressBook) {
+        return expression.plan(addressBook).getCandidates();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof QueryPredicate
+                && expression.equals(((QueryPredicate) other).expression));
+    }
+
+    @Override
+    public int hashCode() {
+        return expression.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "query/" + expression;
+    }
+}
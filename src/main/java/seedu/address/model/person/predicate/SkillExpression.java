@@ -0,0 +1,214 @@
+package seedu.address.model.person.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.index.SkillBitmapIndex;
+import seedu.address.model.person.Skill;
+
+/**
+ * A boolean combination of skills, e.g. {@code java AND sql AND NOT csharp}.
+ * An expression can be tested against the skills of one person, or evaluated for every person at once
+ * on the bitmaps of a {@link SkillBitmapIndex}.
+ */
+public abstract class SkillExpression {
+
+    /**
+     * Returns true if a person with {@code skills} satisfies this expression.
+     */
+    public abstract boolean matches(Set<Skill> skills);
+
+    /**
+     * Returns a new bitmap of the ordinals of the persons in {@code index} that satisfy this expression.
+     */
+    public abstract BitSet evaluate(SkillBitmapIndex index);
+
+    /**
+     * Returns an expression satisfied by persons that have {@code skill}.
+     */
+    public static SkillExpression of(Skill skill) {
+        return new Has(skill);
+    }
+
+    /**
+     * Returns an expression satisfied by persons that satisfy both this expression and {@code other}.
+     */
+    public SkillExpression and(SkillExpression other) {
+        return new And(this, other);
+    }
+
+    /**
+     * Returns an expression satisfied by persons that satisfy this expression, {@code other} or both.
+     */
+    public SkillExpression or(SkillExpression other) {
+        return new Or(this, other);
+    }
+
+    /**
+     * Returns an expression satisfied by persons that do not satisfy this expression.
+     */
+    public SkillExpression negate() {
+        return new Not(this);
+    }
+
+    /**
+     * Persons that have a skill.
+     */
+    private static class Has extends SkillExpression {
+        private final Skill skill;
+
+        Has(Skill skill) {
+            this.skill = requireNonNull(skill);
+        }
+
+        @Override
+        public boolean matches(Set<Skill> skills) {
+            return skills.contains(skill);
+        }
+
+        @Override
+        public BitSet evaluate(SkillBitmapIndex index) {
+            return index.getBitmap(skill);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Has && skill.equals(((Has) other).skill));
+        }
+
+        @Override
+        public int hashCode() {
+            return skill.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return skill.toString();
+        }
+    }
+
+    /**
+     * Persons that satisfy both operands.
+     */
+    private static class And extends SkillExpression {
+        private final SkillExpression left;
+        private final SkillExpression right;
+
+        And(SkillExpression left, SkillExpression right) {
+            this.left = requireNonNull(left);
+            this.right = requireNonNull(right);
+        }
+
+        @Override
+        public boolean matches(Set<Skill> skills) {
+            return left.matches(skills) && right.matches(skills);
+        }
+
+        @Override
+        public BitSet evaluate(SkillBitmapIndex index) {
+            BitSet result = left.evaluate(index);
+            if (!result.isEmpty()) {
+                result.and(right.evaluate(index));
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof And
+                    && left.equals(((And) other).left) && right.equals(((And) other).right));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("AND", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    /**
+     * Persons that satisfy either operand.
+     */
+    private static class Or extends SkillExpression {
+        private final SkillExpression left;
+        private final SkillExpression right;
+
+        Or(SkillExpression left, SkillExpression right) {
+            this.left = requireNonNull(left);
+            this.right = requireNonNull(right);
+        }
+
+        @Override
+        public boolean matches(Set<Skill> skills) {
+            return left.matches(skills) || right.matches(skills);
+        }
+
+        @Override
+        public BitSet evaluate(SkillBitmapIndex index) {
+            BitSet result = left.evaluate(index);
+            result.or(right.evaluate(index));
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Or
+                    && left.equals(((Or) other).left) && right.equals(((Or) other).right));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("OR", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    /**
+     * Persons that do not satisfy the operand.
+     */
+    private static class Not extends SkillExpression {
+        private final SkillExpression operand;
+
+        Not(SkillExpression operand) {
+            this.operand = requireNonNull(operand);
+        }
+
+        @Override
+        public boolean matches(Set<Skill> skills) {
+            return !operand.matches(skills);
+        }
+
+        @Override
+        public BitSet evaluate(SkillBitmapIndex index) {
+            BitSet result = index.getAll();
+            result.andNot(operand.evaluate(index));
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("NOT", operand);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.person.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s skills satisfy a boolean skill expression.
+ * Example: list s/java AND (sql OR python) AND NOT csharp
+ */
+public class SkillExpressionPredicate implements IndexedPredicate {
+    private final SkillExpression expression;
+
+    public SkillExpressionPredicate(SkillExpression expression) {
+        this.expression = requireNonNull(expression);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return expression.matches(person.getSkills());
+    }
+
+    @Override
+    public Optional<Collection<Person>> getCandidates(AddressBook addressBook) {
+        return Optional.of(addressBook.getPersonsMatching(expression));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof SkillExpressionPredicate
+                && expression.equals(((SkillExpressionPredicate) other).expression));
+    }
+
+    @Override
+    public int hashCode() {
+        return expression.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "skills/" + expression;
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
 import java.util.Objects;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Employee's category(Role/Department/Team) in the directory.
  * Guarantees: immutable;
@@ -16,6 +19,9 @@ public class Category {
     public static final String CATEGORY_CONSTRAINTS = "Category must be one of Team/Role/Department";
     public static final String CATEGORY_CORRUPT = "Data corrupted, " + CATEGORY_CONSTRAINTS;
 
+    /** Canonical categories shared by every person in the model. */
+    private static final Interner<Category> INTERNER = new Interner<>();
+
     /**
      * Represents the valid categories.
      */
@@ -27,6 +33,8 @@ public class Category {
 
     private final String category;
     private final String value;
+    private final CategoryType type;
+    private final int hash;
 
     /**
      * Constructs a {@code Category}.
@@ -43,16 +51,29 @@ public class Category {
 
         this.category = category;
         this.value = value;
+        this.type = CategoryType.valueOf(category.toUpperCase(Locale.ROOT));
+        this.hash = Objects.hash(category, value);
     }
 
     public String getCategory() {
         return category;
     }
 
+    public CategoryType getCategoryType() {
+        return type;
+    }
+
     public String getValue() {
         return value;
     }
 
+    /**
+     * Returns the canonical instance of this category, so that persons with the same category can share one object.
+     */
+    public Category intern() {
+        return INTERNER.intern(this);
+    }
+
     /**
      * Returns true if a given string is a valid category/value.
      */
@@ -89,11 +110,12 @@ public class Category {
         }
 
         Category otherCategory = (Category) other;
-        return category.equals(otherCategory.category) && value.equals(otherCategory.value);
+        return hash == otherCategory.hash
+                && category.equals(otherCategory.category) && value.equals(otherCategory.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(category, value);
+        return hash;
     }
 }
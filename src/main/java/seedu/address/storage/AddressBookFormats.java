@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Picks the storage format of an address book file from its extension, and converts files between formats.
+ * Files ending in {@value BinaryAddressBookStorage#FILE_EXTENSION} are binary, files ending in
+ * {@value SegmentedAddressBookStorage#FILE_EXTENSION} are segmented, and all other files are JSON.
+ */
+public class AddressBookFormats {
+
+    private AddressBookFormats() {} // prevents instantiation
+
+    /**
+     * Returns a storage for the address book file at {@code filePath}, in the format given by its extension.
+     */
+    public static AddressBookStorage open(Path filePath) {
+        requireNonNull(filePath);
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return new BinaryAddressBookStorage(filePath);
+        }
+        if (SegmentedAddressBookStorage.isSegmentedFile(filePath)) {
+            return new SegmentedAddressBookStorage(filePath);
+        }
+        return new JournalingAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns a storage for the address book file at {@code filePath}, in the format given by its extension,
+     * set up as {@code config} asks: whether to compress JSON snapshots, whether to defer forcing saves onto the disk
+     * to {@link AddressBookStorage#sync()}, and how many backups to keep.
+     */
+    public static AddressBookStorage open(Path filePath, Config config) {
+        requireNonNull(filePath);
+        requireNonNull(config);
+        boolean isSyncDeferred = config.getSyncIntervalMillis() > 0;
+        AddressBookStorage storage;
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            storage = new BinaryAddressBookStorage(filePath, isSyncDeferred);
+        } else if (SegmentedAddressBookStorage.isSegmentedFile(filePath)) {
+            storage = new SegmentedAddressBookStorage(filePath, SegmentedAddressBookStorage.DEFAULT_SEGMENT_SIZE,
+                    isSyncDeferred);
+        } else {
+            storage = new JournalingAddressBookStorage(filePath,
+                    JournalingAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD_BYTES, config.isDataFileCompressed(),
+                    isSyncDeferred);
+        }
+        // Wrapped even when no backups are kept, so that the backups made before can still be restored.
+        return new BackupAddressBookStorage(storage, config.getBackupCount(), config.getBackupIntervalMillis(),
+                config.isDataFileCompressed());
+    }
+
+    /**
+     * Copies the address book at {@code source} to {@code target}, converting it from the format of
+     * {@code source} to the format of {@code target}.
+     *
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if {@code source} does not exist or {@code target} could not be written.
+     */
+    public static void convert(Path source, Path target) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        ReadOnlyAddressBook addressBook = open(source).readAddressBook()
+                .orElseThrow(() -> new FileNotFoundException(source.toString()));
+        open(target).saveAddressBook(addressBook);
+    }
+}
@@ -5,12 +5,14 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookBackups;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
+ * Storages that keep no backups of the address book have none to list.
  */
-public interface AddressBookStorage {
+public interface AddressBookStorage extends AddressBookBackups {
 
     /**
      * Returns the file path of the data file.
@@ -42,4 +44,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Forces any saves that this storage has not forced onto the disk yet.
+     * Storages that force every save before returning have nothing to do.
+     * @throws IOException if there was any problem forcing the files.
+     */
+    default void sync() throws IOException {}
+
 }
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config.SavePolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes address books to an {@code AddressBookStorage} on a background thread.
+ *
+ * <p>Each submitted address book is copied into an immutable snapshot on the calling thread, so that later
+ * edits cannot race with the write. Only the latest snapshot is kept: a burst of edits submitted while a write
+ * is pending or in progress is written once, as a single snapshot of the final state.
+ *
+ * <p>Writes can also be synced in batches: the storage then leaves forcing its writes onto the disk to
+ * {@link AddressBookStorage#sync()}, which this writer calls at most once per sync interval, and when flushed.
+ *
+ * <p>A write that fails is retried with the next write, and the failure is kept until taken by
+ * {@link #takeFailure()} so that it can be reported to the user.
+ */
+public class BackgroundAddressBookWriter implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookWriter.class);
+
+    private final AddressBookStorage storage;
+    private final SavePolicy policy;
+    private final long intervalMillis;
+    private final long syncIntervalMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean();
+    private final AtomicBoolean isSyncScheduled = new AtomicBoolean();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    /**
+     * Creates a writer that writes to {@code storage} as often as {@code policy} allows.
+     * {@code intervalMillis} is only used by {@link SavePolicy#INTERVAL}.
+     */
+    public BackgroundAddressBookWriter(AddressBookStorage storage, SavePolicy policy, long intervalMillis) {
+        this(storage, policy, intervalMillis, 0);
+    }
+
+    /**
+     * Creates a writer that writes to {@code storage} as often as {@code policy} allows, and syncs the storage
+     * at most once every {@code syncIntervalMillis}, or after every write if it is 0.
+     * {@code intervalMillis} is only used by {@link SavePolicy#INTERVAL}.
+     */
+    public BackgroundAddressBookWriter(AddressBookStorage storage, SavePolicy policy, long intervalMillis,
+            long syncIntervalMillis) {
+        requireNonNull(storage);
+        requireNonNull(policy);
+        this.storage = storage;
+        this.policy = policy;
+        this.intervalMillis = Math.max(0, intervalMillis);
+        this.syncIntervalMillis = Math.max(0, syncIntervalMillis);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and schedules it to be written.
+     * Replaces any snapshot that has not been written yet.
+     */
+    public void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pending.set(new Snapshot(addressBook));
+        if (policy == SavePolicy.ON_EXIT || !isWriteScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        long delay = policy == SavePolicy.INTERVAL ? intervalMillis : 0;
+        executor.schedule(this::writePending, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the pending snapshot, if any, syncs the storage and waits for both to finish.
+     *
+     * @throws IOException if the write or the sync failed.
+     */
+    public void flush() throws IOException {
+        IOException writeFailure;
+        try {
+            writeFailure = executor.submit(() -> {
+                IOException pendingFailure = writePending();
+                // Without a sync interval, every write has been synced already
+                return pendingFailure != null || syncIntervalMillis == 0 ? pendingFailure : syncWrites();
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the address book", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+    }
+
+    /**
+     * Returns and forgets the failure of the most recent write that failed, if it has not been taken yet.
+     */
+    public Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Flushes the pending snapshot and stops the background thread.
+     *
+     * @throws IOException if the final write failed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, and returns the failure of the write, or null if it succeeded.
+     */
+    private IOException writePending() {
+        isWriteScheduled.set(false);
+        ReadOnlyAddressBook snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return null;
+        }
+        try {
+            storage.saveAddressBook(snapshot);
+            logger.fine("Saved address book in the background");
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + e.getMessage());
+            failure.set(e);
+            // Keep the snapshot for the next write unless a newer one has already been submitted.
+            pending.compareAndSet(null, snapshot);
+            return e;
+        }
+
+        if (syncIntervalMillis == 0) {
+            return syncWrites();
+        }
+        if (isSyncScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::syncWrites, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return null;
+    }
+
+    /**
+     * Syncs the writes made so far, and returns the failure of the sync, or null if it succeeded.
+     */
+    private IOException syncWrites() {
+        isSyncScheduled.set(false);
+        try {
+            storage.sync();
+            return null;
+        } catch (IOException e) {
+            logger.warning("Failed to sync address book in the background: " + e.getMessage());
+            failure.set(e);
+            return e;
+        }
+    }
+
+    /**
+     * An immutable copy of the persons in an address book.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Wraps an {@code AddressBookStorage} to also keep a rotating set of timestamped backups of the address book.
+ *
+ * <p>A save to the address book file is followed by a backup if none has been made within the backup interval,
+ * so the first save of every session is backed up. Backups are JSON files in a {@value #BACKUP_DIRECTORY_NAME}
+ * folder next to the address book file, named after it and the time of the backup, and only the most recent
+ * ones are kept. Saves are made by the background writer, so backups are written off the UI thread as well.
+ */
+public class BackupAddressBookStorage implements AddressBookStorage {
+
+    public static final String BACKUP_DIRECTORY_NAME = "backups";
+    public static final String BACKUP_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BackupAddressBookStorage.class);
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final AddressBookStorage storage;
+    private final int backupCount;
+    private final Duration backupInterval;
+    private final boolean isCompressed;
+    private final Clock clock;
+    private Instant lastBackupTime;
+
+    /**
+     * Creates a storage that saves to {@code storage} and keeps the {@code backupCount} most recent backups,
+     * made at most once every {@code backupIntervalMillis}. Backups are compressed if {@code isCompressed}.
+     */
+    public BackupAddressBookStorage(AddressBookStorage storage, int backupCount, long backupIntervalMillis,
+            boolean isCompressed) {
+        this(storage, backupCount, backupIntervalMillis, isCompressed, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a storage like {@link #BackupAddressBookStorage(AddressBookStorage, int, long, boolean)} that
+     * reads the time of its backups from {@code clock}.
+     */
+    BackupAddressBookStorage(AddressBookStorage storage, int backupCount, long backupIntervalMillis,
+            boolean isCompressed, Clock clock) {
+        this.storage = requireNonNull(storage);
+        this.backupCount = backupCount;
+        this.backupInterval = Duration.ofMillis(Math.max(0, backupIntervalMillis));
+        this.isCompressed = isCompressed;
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Returns the folder holding the backups of the address book file at {@code addressBookFilePath}.
+     */
+    public static Path getBackupDirectory(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(BACKUP_DIRECTORY_NAME);
+    }
+
+    /**
+     * Returns the backups of the address book file at {@code addressBookFilePath}, newest first.
+     *
+     * @throws IOException if the backup folder could not be read.
+     */
+    public static List<Path> listBackupFiles(Path addressBookFilePath) throws IOException {
+        Path directory = getBackupDirectory(addressBookFilePath);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        String prefix = getBackupPrefix(addressBookFilePath);
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> isBackupName(file.getFileName().toString(), prefix))
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the address book in the backup at {@code backupPath}.
+     *
+     * @throws DataLoadingException if the backup could not be read.
+     */
+    public static ReadOnlyAddressBook readBackupFile(Path backupPath) throws DataLoadingException {
+        return new JsonAddressBookStorage(backupPath).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new IOException("Missing backup " + backupPath)));
+    }
+
+    private static String getBackupPrefix(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return (extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName) + "-";
+    }
+
+    private static boolean isBackupName(String fileName, String prefix) {
+        return fileName.startsWith(prefix) && fileName.endsWith(BACKUP_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the address book file of this storage are backed up.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+        if (!filePath.equals(getAddressBookFilePath()) || !isBackupDue()) {
+            return;
+        }
+        try {
+            backUp(addressBook);
+        } catch (IOException e) {
+            // The address book itself was saved, so a failed backup is not reported as a failed save.
+            logger.warning("Failed to back up address book: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void sync() throws IOException {
+        storage.sync();
+    }
+
+    @Override
+    public List<String> listBackups() throws IOException {
+        return listBackupFiles(getAddressBookFilePath()).stream()
+                .map(backup -> backup.getFileName().toString())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ReadOnlyAddressBook readBackup(String backupName) throws DataLoadingException {
+        Path addressBookFilePath = getAddressBookFilePath();
+        // Only names in the backup folder are accepted, so that no other file can be read through a name.
+        if (!isBackupName(backupName, getBackupPrefix(addressBookFilePath)) || backupName.contains("/")
+                || backupName.contains("\\")) {
+            throw new DataLoadingException(new IOException("No backup named " + backupName));
+        }
+        return readBackupFile(getBackupDirectory(addressBookFilePath).resolve(backupName));
+    }
+
+    private synchronized boolean isBackupDue() {
+        return backupCount > 0
+                && (lastBackupTime == null || !clock.instant().isBefore(lastBackupTime.plus(backupInterval)));
+    }
+
+    /**
+     * Writes a backup of {@code addressBook} and deletes the backups older than the {@code backupCount} newest.
+     */
+    private synchronized void backUp(ReadOnlyAddressBook addressBook) throws IOException {
+        Path addressBookFilePath = getAddressBookFilePath();
+        lastBackupTime = clock.instant();
+        String timestamp = LocalDateTime.ofInstant(lastBackupTime, clock.getZone()).format(TIMESTAMP_FORMAT);
+        Path backupPath = getBackupDirectory(addressBookFilePath)
+                .resolve(getBackupPrefix(addressBookFilePath) + timestamp + BACKUP_EXTENSION);
+        new JsonAddressBookStorage(backupPath, true, isCompressed, false).saveAddressBook(addressBook);
+        logger.info("Backed up address book to " + backupPath);
+
+        List<Path> backups = listBackupFiles(addressBookFilePath);
+        for (Path oldBackup : backups.subList(Math.min(backupCount, backups.size()), backups.size())) {
+            Files.deleteIfExists(oldBackup);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Skill;
+import seedu.address.model.tag.Category;
+
+/**
+ * An address book file in the format of {@link BinaryAddressBookStorage}, opened for reading.
+ *
+ * <p>The file is memory-mapped rather than read into the heap, except on Windows, which does not allow a mapped
+ * file to be replaced until the mapping is garbage collected. Opening the file checks its checksum, decodes
+ * the skill and category dictionaries and finds where each person record starts. Person records are decoded
+ * when first asked for, and can also be decoded ahead of time on a background thread, so that decoding
+ * overlaps with whatever the caller does with the persons already decoded.
+ */
+class BinaryAddressBookFile implements AutoCloseable {
+
+    private static final boolean CAN_MAP_SAFELY =
+            !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+
+    private final ByteBuffer buffer;
+    private final Skill[] skills;
+    private final Category[] categories;
+    private final int[] recordOffsets;
+    private final int[] recordEnds;
+    private final AtomicReferenceArray<Person> decoded;
+    private final AtomicInteger nextToDecodeAhead = new AtomicInteger();
+    /** One past the highest index asked for by {@link #get}, below which decoding ahead is of no use. */
+    private final AtomicInteger nextToRead = new AtomicInteger();
+    private volatile boolean isClosed;
+
+    private BinaryAddressBookFile(ByteBuffer buffer) throws IllegalValueException {
+        this.buffer = buffer;
+        int limit = buffer.limit();
+        if (limit < HEADER_SIZE + CHECKSUM_SIZE || buffer.getInt(0) != BinaryAddressBookStorage.MAGIC) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_NOT_BINARY);
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != BinaryAddressBookStorage.VERSION) {
+            throw new IllegalValueException(String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                    version));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(limit - CHECKSUM_SIZE));
+        if (buffer.getLong(limit - CHECKSUM_SIZE) != crc.getValue()) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        Cursor cursor = new Cursor(2 * Integer.BYTES, limit - CHECKSUM_SIZE);
+        skills = new Skill[cursor.readCount()];
+        categories = new Category[cursor.readCount()];
+        recordOffsets = new int[cursor.readCount()];
+        recordEnds = new int[recordOffsets.length];
+        for (int i = 0; i < skills.length; i++) {
+            String skillName = cursor.readString();
+            if (!Skill.isValidSkillName(skillName)) {
+                throw new IllegalValueException(Skill.MESSAGE_CONSTRAINTS);
+            }
+            skills[i] = new Skill(skillName);
+        }
+        for (int i = 0; i < categories.length; i++) {
+            String category = cursor.readString();
+            String value = cursor.readString();
+            if (!Category.isValidCategory(category) || !Category.isValidData(value)) {
+                throw new IllegalValueException(Category.CATEGORY_CORRUPT);
+            }
+            categories[i] = new Category(category, value);
+        }
+        for (int i = 0; i < recordOffsets.length; i++) {
+            int length = cursor.readCount();
+            recordOffsets[i] = cursor.position;
+            cursor.skip(length);
+            recordEnds[i] = cursor.position;
+        }
+        if (cursor.position != cursor.end) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_BAD_RECORD);
+        }
+        decoded = new AtomicReferenceArray<>(recordOffsets.length);
+    }
+
+    /**
+     * Opens the file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not a valid address book in this format.
+     */
+    public static BinaryAddressBookFile open(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Binary address book is too large: " + filePath);
+            }
+            if (CAN_MAP_SAFELY) {
+                return new BinaryAddressBookFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+        }
+        return new BinaryAddressBookFile(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+    }
+
+    /**
+     * Returns the number of persons in the file.
+     */
+    public int size() {
+        return recordOffsets.length;
+    }
+
+    /**
+     * Returns the person with the given {@code index}, decoding it if it has not been decoded yet.
+     * The person is forgotten once returned, so that the file does not keep every person alive.
+     *
+     * @throws IllegalValueException if the record of the person is not valid.
+     */
+    public Person get(int index) throws IllegalValueException {
+        // Moved on before taking the person, so that the decoder cannot store it after this call has passed it.
+        nextToRead.accumulateAndGet(index + 1, Math::max);
+        nextToDecodeAhead.accumulateAndGet(index + 1, Math::max);
+        Person person = decoded.getAndSet(index, null);
+        return person != null ? person : decode(index);
+    }
+
+    /**
+     * Starts decoding persons in order on a background thread, ahead of calls to {@link #get}.
+     * The thread skips the persons that {@code get} has already passed, and does not keep a person that
+     * {@code get} passes while it is being decoded. It stops at the first record it cannot decode,
+     * and when this file is closed.
+     */
+    public void decodeAheadInBackground() {
+        Thread thread = new Thread(() -> {
+            for (int index = nextToDecodeAhead.getAndIncrement(); index < size() && !isClosed;
+                    index = nextToDecodeAhead.getAndIncrement()) {
+                if (index < nextToRead.get()) {
+                    continue;
+                }
+                try {
+                    Person person = decode(index);
+                    decoded.set(index, person);
+                    if (index < nextToRead.get()) {
+                        decoded.compareAndSet(index, person, null); // get() decoded it too, so it is not wanted
+                    }
+                } catch (IllegalValueException | RuntimeException e) {
+                    return; // get() decodes the record again and reports the problem
+                }
+            }
+        }, "address-book-decoder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+    }
+
+    private Person decode(int index) throws IllegalValueException {
+        Cursor cursor = new Cursor(recordOffsets[index], recordEnds[index]);
+        String name = cursor.readString();
+        String phone = cursor.readString();
+        String email = cursor.readString();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<Category> personCategories = new HashSet<>();
+        for (int count = cursor.readCount(); count > 0; count--) {
+            personCategories.add(lookUp(categories, cursor.readInt()));
+        }
+        if (!Person.hasOneCategoryPerType(personCategories)) {
+            throw new IllegalValueException(Person.MESSAGE_ONE_CATEGORY_PER_TYPE);
+        }
+        Set<Skill> personSkills = new HashSet<>();
+        for (int count = cursor.readCount(); count > 0; count--) {
+            personSkills.add(lookUp(skills, cursor.readInt()));
+        }
+        if (cursor.position != cursor.end) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_BAD_RECORD);
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), personCategories, personSkills);
+    }
+
+    private static <T> T lookUp(T[] dictionary, int id) throws IllegalValueException {
+        if (id < 0 || id >= dictionary.length) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_BAD_RECORD);
+        }
+        return dictionary[id];
+    }
+
+    /**
+     * Reads values from a range of the buffer with absolute gets, so that threads can read at the same time.
+     */
+    private class Cursor {
+        private int position;
+        private final int end;
+
+        Cursor(int position, int end) {
+            this.position = position;
+            this.end = end;
+        }
+
+        int readInt() throws IllegalValueException {
+            skip(Integer.BYTES);
+            return buffer.getInt(position - Integer.BYTES);
+        }
+
+        int readCount() throws IllegalValueException {
+            int count = readInt();
+            if (count < 0 || count > end - position) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_BAD_RECORD);
+            }
+            return count;
+        }
+
+        String readString() throws IllegalValueException {
+            byte[] bytes = new byte[readCount()];
+            buffer.get(position, bytes);
+            position += bytes.length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        void skip(int length) throws IllegalValueException {
+            if (length < 0 || length > end - position) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_BAD_RECORD);
+            }
+            position += length;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
+import seedu.address.model.tag.Category;
+
+/**
+ * A class to access AddressBook data stored in a compact binary format on the hard disk.
+ *
+ * <p>The file starts with a magic number, the format version and the number of skills, categories and persons.
+ * The distinct skills and categories follow, each stored once, and then the persons, each as a record of its
+ * length in bytes, its name, phone and email, and the dictionary numbers of its categories and skills.
+ * Strings are stored as their length in bytes followed by their UTF-8 encoding, and all numbers are big-endian.
+ * The file ends with the CRC32 of everything before it.
+ *
+ * <p>Files are read through {@link BinaryAddressBookFile}, which decodes persons on a background thread while
+ * they are being added to the address book.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int MAGIC = 0x534C4B42; // "SLKB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "Not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book is corrupted (checksum mismatch).";
+    public static final String MESSAGE_BAD_RECORD = "Binary address book is corrupted (invalid record).";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final DataFileWriter fileWriter;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that leaves forcing its saves onto the disk to {@link #sync()}
+     * if {@code isSyncDeferred} is true.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isSyncDeferred) {
+        this.filePath = filePath;
+        this.fileWriter = new DataFileWriter(isSyncDeferred);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file in this format, judging by its extension.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (BinaryAddressBookFile file = BinaryAddressBookFile.open(filePath)) {
+            file.decodeAheadInBackground();
+            AddressBook addressBook = new AddressBook();
+            for (int i = 0; i < file.size(); i++) {
+                JsonSerializableAddressBook.addUniquePerson(addressBook, file.get(i));
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        fileWriter.replace(filePath, fileOut -> {
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new CheckedOutputStream(fileOut, crc)));
+            write(addressBook.getPersonList(), out);
+            out.flush();
+            out.writeLong(crc.getValue());
+            out.flush();
+        });
+    }
+
+    @Override
+    public void sync() throws IOException {
+        fileWriter.sync();
+    }
+
+    private static void write(List<Person> persons, DataOutputStream out) throws IOException {
+        Map<Skill, Integer> skillIds = new LinkedHashMap<>();
+        Map<Category, Integer> categoryIds = new LinkedHashMap<>();
+        for (Person person : persons) {
+            person.getSkills().forEach(skill -> skillIds.putIfAbsent(skill, skillIds.size()));
+            person.getCategories().forEach(category -> categoryIds.putIfAbsent(category, categoryIds.size()));
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(skillIds.size());
+        out.writeInt(categoryIds.size());
+        out.writeInt(persons.size());
+        for (Skill skill : skillIds.keySet()) {
+            writeString(out, skill.skillName);
+        }
+        for (Category category : categoryIds.keySet()) {
+            writeString(out, category.getCategory());
+            writeString(out, category.getValue());
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writeString(record, person.getName().fullName);
+            writeString(record, person.getPhone().value);
+            writeString(record, person.getEmail().value);
+            record.writeInt(person.getCategories().size());
+            for (Category category : person.getCategories()) {
+                record.writeInt(categoryIds.get(category));
+            }
+            record.writeInt(person.getSkills().size());
+            for (Skill skill : person.getSkills()) {
+                record.writeInt(skillIds.get(skill));
+            }
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Writes the files of an address book storage.
+ *
+ * <p>Each write is forced onto the disk before it returns, unless syncs are deferred. Then the files written are
+ * remembered instead, and forced together by {@link #sync()}, so that a burst of saves pays for one sync.
+ * Only what can safely wait is deferred: the rename that puts a replaced file in place, and appends. The new
+ * contents of a replaced file are always forced before that rename, so a crash leaves its old or new contents.
+ */
+class DataFileWriter {
+
+    private final boolean isSyncDeferred;
+    private final Set<Path> unsyncedFiles = new LinkedHashSet<>();
+
+    DataFileWriter(boolean isSyncDeferred) {
+        this.isSyncDeferred = isSyncDeferred;
+    }
+
+    /**
+     * Replaces the contents of {@code file} atomically with what {@code writer} writes.
+     */
+    synchronized void replace(Path file, FileUtil.ContentWriter writer) throws IOException {
+        FileUtil.writeAtomically(file, writer, !isSyncDeferred);
+        if (isSyncDeferred) {
+            unsyncedFiles.add(file);
+        }
+    }
+
+    /**
+     * Appends {@code bytes} to {@code file}, which must exist.
+     */
+    synchronized void append(Path file, byte[] bytes) throws IOException {
+        if (isSyncDeferred) {
+            Files.write(file, bytes, StandardOpenOption.APPEND);
+            unsyncedFiles.add(file);
+        } else {
+            Files.write(file, bytes, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        }
+    }
+
+    /**
+     * Forces the files written since the last sync onto the disk.
+     */
+    synchronized void sync() throws IOException {
+        for (Iterator<Path> files = unsyncedFiles.iterator(); files.hasNext();) {
+            Path file = files.next();
+            if (Files.exists(file)) {
+                FileUtil.force(file);
+            }
+            files.remove();
+        }
+    }
+}
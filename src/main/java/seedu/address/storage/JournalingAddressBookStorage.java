@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of the changes made
+ * since the snapshot was written.
+ *
+ * <p>A save appends one line to the journal describing how the person list differs from the previous save,
+ * so its cost grows with the size of the change rather than the size of the address book. Once the journal
+ * passes a size threshold, the next save compacts it by writing a fresh snapshot and starting a new journal.
+ * Reading loads the snapshot and replays the journal on top of it.
+ *
+ * <p>The first line of the journal holds the checksum of the snapshot it applies to. A journal left behind by
+ * a compaction that was interrupted after writing the snapshot does not match, and is ignored.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_EXTENSION = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+    private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Path filePath;
+    private final long compactionThresholdBytes;
+    private final boolean isCompressed;
+    private final DataFileWriter fileWriter;
+
+    /** The persons as last saved to or read from {@code filePath}, or null if unknown. */
+    private List<Person> savedPersons;
+    private long snapshotChecksum;
+    /** The size of the journal of the current snapshot, or -1 if the snapshot has no journal yet. */
+    private long journalSize = -1;
+    /** Whether the journal must be replaced by a new snapshot before anything else is appended to it. */
+    private boolean mustCompact;
+
+    /**
+     * Creates a storage at {@code filePath} that compacts its journal once it reaches
+     * {@link #DEFAULT_COMPACTION_THRESHOLD_BYTES}.
+     */
+    public JournalingAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that compacts its journal once it reaches
+     * {@code compactionThresholdBytes}.
+     */
+    public JournalingAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        this(filePath, compactionThresholdBytes, false, false);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that compacts its journal once it reaches
+     * {@code compactionThresholdBytes}. Snapshots are compressed with deflate if {@code isCompressed} is true,
+     * and forcing writes onto the disk is left to {@link #sync()} if {@code isSyncDeferred} is true.
+     */
+    public JournalingAddressBookStorage(Path filePath, long compactionThresholdBytes, boolean isCompressed,
+            boolean isSyncDeferred) {
+        this.filePath = requireNonNull(filePath);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.isCompressed = isCompressed;
+        this.fileWriter = new DataFileWriter(isSyncDeferred);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        CRC32 crc = new CRC32();
+        try (InputStream in = new BufferedInputStream(new CheckedInputStream(Files.newInputStream(filePath), crc))) {
+            List<Person> persons = JsonSerializableAddressBook.readPersons(in);
+            in.transferTo(OutputStream.nullOutputStream()); // so that the checksum covers the whole file
+            long checksum = crc.getValue();
+            Replay replay = replayJournal(getJournalPath(filePath), checksum, persons);
+            AddressBook addressBook = ParallelPersonLoader.load(persons);
+
+            if (filePath.equals(this.filePath)) {
+                savedPersons = List.copyOf(addressBook.getPersonList());
+                snapshotChecksum = checksum;
+                journalSize = replay.journalSize;
+                mustCompact = replay.isTorn;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalPath} to {@code persons},
+     * if the journal belongs to the snapshot with {@code checksum}.
+     */
+    private Replay replayJournal(Path journalPath, long checksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return new Replay(-1, false);
+        }
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || readHeader(lines.get(0)).map(header -> header.snapshotChecksum != checksum)
+                .orElse(true)) {
+            logger.info("Ignoring journal " + journalPath + " as it does not belong to the current snapshot");
+            return new Replay(-1, false);
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw e;
+                }
+                // Only the last entry can be cut short, by a crash in the middle of appending it.
+                logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                return new Replay(Files.size(journalPath), true);
+            }
+            entry.applyTo(persons);
+        }
+        logger.info("Replayed " + (lines.size() - 1) + " journal entries from " + journalPath);
+        return new Replay(Files.size(journalPath), false);
+    }
+
+    private static Optional<JournalHeader> readHeader(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JournalHeader.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any path other than this storage's own writes a full snapshot there, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(persons, filePath);
+            return;
+        }
+        if (savedPersons == null || mustCompact || journalSize >= compactionThresholdBytes) {
+            compact(persons);
+            return;
+        }
+
+        int maxCommon = Math.min(savedPersons.size(), persons.size());
+        int prefix = 0;
+        while (prefix < maxCommon && savedPersons.get(prefix) == persons.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix && savedPersons.get(savedPersons.size() - 1 - suffix)
+                == persons.get(persons.size() - 1 - suffix)) {
+            suffix++;
+        }
+        int removed = savedPersons.size() - prefix - suffix;
+        List<Person> added = persons.subList(prefix, persons.size() - suffix);
+        if (removed == 0 && added.isEmpty()) {
+            return;
+        }
+        if (added.size() > persons.size() / 2) {
+            // Most of the book has changed, e.g. after a clear, so a snapshot is no bigger than the entry.
+            compact(persons);
+            return;
+        }
+
+        if (journalSize < 0) {
+            startJournal();
+        }
+        List<JsonAdaptedPerson> jsonAdded = added.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        byte[] entry = JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(prefix, removed, jsonAdded))
+                .getBytes(StandardCharsets.UTF_8);
+        appendLine(entry);
+        savedPersons = persons;
+    }
+
+    /**
+     * Writes {@code persons} as a new snapshot and starts an empty journal for it.
+     */
+    private void compact(List<Person> persons) throws IOException {
+        snapshotChecksum = writeSnapshot(persons, filePath);
+        startJournal();
+        savedPersons = persons;
+        mustCompact = false;
+    }
+
+    private void startJournal() throws IOException {
+        byte[] header = JsonUtil.toCompactJsonString(new JournalHeader(snapshotChecksum))
+                .getBytes(StandardCharsets.UTF_8);
+        fileWriter.replace(getJournalPath(filePath), out -> {
+            out.write(header);
+            out.write(LINE_SEPARATOR);
+        });
+        journalSize = header.length + LINE_SEPARATOR.length;
+    }
+
+    private void appendLine(byte[] line) throws IOException {
+        byte[] bytes = new byte[line.length + LINE_SEPARATOR.length];
+        System.arraycopy(line, 0, bytes, 0, line.length);
+        System.arraycopy(LINE_SEPARATOR, 0, bytes, line.length, LINE_SEPARATOR.length);
+        fileWriter.append(getJournalPath(filePath), bytes);
+        journalSize += bytes.length;
+    }
+
+    /**
+     * Writes {@code persons} as a full snapshot to {@code filePath} and returns the checksum of the file.
+     */
+    private long writeSnapshot(List<Person> persons, Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        fileWriter.replace(filePath, out -> {
+            OutputStream checkedOut = new CheckedOutputStream(out, crc);
+            if (isCompressed) {
+                JsonSerializableAddressBook.writeDeflatedPersons(persons, checkedOut);
+            } else {
+                JsonSerializableAddressBook.writePersons(persons, checkedOut, false);
+            }
+        });
+        return crc.getValue();
+    }
+
+    @Override
+    public void sync() throws IOException {
+        fileWriter.sync();
+    }
+
+    /**
+     * The first line of a journal, naming the snapshot that the journal applies to.
+     */
+    private static class JournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class Replay {
+        private final long journalSize;
+        private final boolean isTorn;
+
+        Replay(long journalSize, boolean isTorn) {
+            this.journalSize = journalSize;
+            this.isTorn = isTorn;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the person list, recorded in the journal of a
+ * {@link JournalingAddressBookStorage}. The change removes {@code removed} persons starting at {@code index}
+ * and inserts {@code added} in their place, which covers an add, an update, an assignment or a delete.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal entry does not fit the persons list.";
+
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("index") int index, @JsonProperty("removed") int removed,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.index = index;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if the change does not fit within {@code persons}, or adds an invalid person.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > persons.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+        List<Person> range = persons.subList(index, index + removed);
+        range.clear();
+        for (JsonAdaptedPerson person : added) {
+            range.add(person.toModelType());
+        }
+    }
+}
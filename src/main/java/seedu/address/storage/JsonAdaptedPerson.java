@@ -167,6 +167,9 @@ class JsonAdaptedPerson {
                 throw exception;
             }
         }
+        if (!Person.hasOneCategoryPerType(modelCategories)) {
+            throw new IllegalValueException(Person.MESSAGE_ONE_CATEGORY_PER_TYPE);
+        }
         // Your current Person signature (from earlier errors):
         // Person(Name, Phone, Email, Set<Category>, Set<Skill>)
         return new Person(modelName, modelPhone, modelEmail, modelCategories, modelSkills);
@@ -2,7 +2,10 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,8 +13,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +23,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
+    private final DataFileWriter fileWriter;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that writes JSON without line breaks and indentation
+     * if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that writes JSON without line breaks and indentation
+     * if {@code isCompact} is true, and that leaves forcing its saves onto the disk to {@link #sync()}
+     * if {@code isSyncDeferred} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isSyncDeferred) {
+        this(filePath, isCompact, false, isSyncDeferred);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} like {@link #JsonAddressBookStorage(Path, boolean, boolean)},
+     * that compresses its saves with deflate if {@code isCompressed} is true. Compressed saves are always compact.
+     * Reading accepts both compressed and uncompressed files.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed, boolean isSyncDeferred) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
+        this.fileWriter = new DataFileWriter(isSyncDeferred);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +78,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(JsonSerializableAddressBook.readAddressBook(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +100,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a crash while saving leaves the previous save intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +108,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (isCompressed) {
+            fileWriter.replace(filePath,
+                    out -> JsonSerializableAddressBook.writeDeflatedPersons(addressBook.getPersonList(), out));
+        } else {
+            fileWriter.replace(filePath,
+                    out -> JsonSerializableAddressBook.writePersons(addressBook.getPersonList(), out, isCompact));
+        }
+    }
+
+    @Override
+    public void sync() throws IOException {
+        fileWriter.sync();
     }
 
 }
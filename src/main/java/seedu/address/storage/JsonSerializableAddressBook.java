@@ -1,14 +1,23 @@
 package seedu.address.storage;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -20,6 +29,13 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_EMAIL = "Persons list contains persons with the same email.";
+    public static final String MESSAGE_DUPLICATE_PHONE = "Persons list contains persons with the same phone number.";
+
+    private static final String PERSONS_FIELD = "persons";
+    /** The first byte of a zlib stream using deflate, which can never start a JSON document. */
+    private static final int DEFLATE_HEADER = 0x78;
+    private static final int DEFLATE_BUFFER_SIZE = 8192;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,15 +62,102 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        return ParallelPersonLoader.load(persons, JsonAdaptedPerson::toModelType);
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code person} clashes with a person already in {@code addressBook}.
+     */
+    static void addUniquePerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (addressBook.findPersonByEmail(person.getEmail()).isPresent()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EMAIL);
+        }
+        if (addressBook.findPersonByPhone(person.getPhone()).isPresent()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PHONE);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Reads an address book in this format from {@code in}.
+     * Address books written by {@link #writeDeflatedPersons} are recognised and inflated.
+     *
+     * @throws IOException if {@code in} is not in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        ParallelPersonLoader.Pipeline<JsonAdaptedPerson> pipeline =
+                new ParallelPersonLoader.Pipeline<>(JsonAdaptedPerson::toModelType, true);
+        read(in, pipeline);
+        return pipeline.toAddressBook();
+    }
+
+    /**
+     * Reads the persons of an address book in this format from {@code in}, in order, without checking them against
+     * each other. Address books written by {@link #writeDeflatedPersons} are recognised and inflated.
+     *
+     * @throws IOException if {@code in} is not in this format.
+     * @throws IllegalValueException if a person violates the data constraints.
+     */
+    static List<Person> readPersons(InputStream in) throws IOException, IllegalValueException {
+        ParallelPersonLoader.Pipeline<JsonAdaptedPerson> pipeline =
+                new ParallelPersonLoader.Pipeline<>(JsonAdaptedPerson::toModelType, false);
+        read(in, pipeline);
+        return pipeline.toPersons();
+    }
+
+    /**
+     * Reads the persons from {@code in} into {@code pipeline} one at a time, so that they are converted while the
+     * rest of the file is read and only the chunks in flight are held as {@code JsonAdaptedPerson}s.
+     */
+    private static void read(InputStream in, ParallelPersonLoader.Pipeline<JsonAdaptedPerson> pipeline)
+            throws IOException {
+        InputStream markableIn = in.markSupported() ? in : new BufferedInputStream(in);
+        markableIn.mark(1);
+        boolean isDeflated = markableIn.read() == DEFLATE_HEADER;
+        markableIn.reset();
+
+        Inflater inflater = new Inflater();
+        try {
+            InputStream jsonIn = isDeflated
+                    ? new InflaterInputStream(markableIn, inflater, DEFLATE_BUFFER_SIZE)
+                    : markableIn;
+            JsonUtil.readJsonArray(jsonIn, PERSONS_FIELD, JsonAdaptedPerson.class, pipeline::add);
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Adding persons to the pipeline never rejects one", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Writes {@code persons} as an address book in this format to {@code out}, converting one person at a time.
+     *
+     * @param isCompact whether to leave out the line breaks and indentation.
+     */
+    static void writePersons(List<Person> persons, OutputStream out, boolean isCompact) throws IOException {
+        Iterable<JsonAdaptedPerson> jsonAdaptedPersons = () -> persons.stream().map(JsonAdaptedPerson::new).iterator();
+        JsonUtil.writeJsonArray(out, PERSONS_FIELD, jsonAdaptedPersons, isCompact);
+    }
+
+    /**
+     * Writes {@code persons} as a deflate-compressed address book in this format to {@code out}.
+     * {@code out} is not closed.
+     */
+    static void writeDeflatedPersons(List<Person> persons, OutputStream out) throws IOException {
+        Deflater deflater = new Deflater();
+        try {
+            DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater, DEFLATE_BUFFER_SIZE);
+            writePersons(persons, deflaterOut, true);
+            deflaterOut.finish();
+        } finally {
+            deflater.end();
         }
-        return addressBook;
     }
 
 }
@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts stored records into persons on the common fork/join pool, and assembles them into an address book.
+ *
+ * <p>Records are converted in chunks as they are read, so that a file can still be parsed while earlier chunks
+ * are converted, and only the records of the chunks in flight are held in memory. Each chunk claims the email and
+ * phone number of its persons in concurrent hash sets to detect clashes. However the work is split, the error
+ * reported is the one the records would give if they were added one at a time in order: the first invalid record,
+ * or the first record that clashes with an earlier one, whichever comes first.
+ */
+final class ParallelPersonLoader {
+
+    /** Records per chunk, enough that the cost of forking a chunk is small next to converting it. */
+    static final int CHUNK_SIZE = 4096;
+
+    private ParallelPersonLoader() {} // prevents instantiation
+
+    /**
+     * Converts one stored record into a person.
+     */
+    @FunctionalInterface
+    interface Converter<T> {
+        /**
+         * Returns the person stored in {@code record}.
+         *
+         * @throws IllegalValueException if {@code record} is not a valid person.
+         */
+        Person convert(T record) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the persons stored in {@code records}, in order, in a list that can be modified.
+     *
+     * @throws IllegalValueException for the first record that is not a valid person.
+     */
+    static <T> List<Person> convert(List<T> records, Converter<? super T> converter) throws IllegalValueException {
+        Pipeline<T> pipeline = new Pipeline<>(converter, false);
+        records.forEach(pipeline::add);
+        return pipeline.toPersons();
+    }
+
+    /**
+     * Returns an address book of the persons stored in {@code records}, in order.
+     *
+     * @throws IllegalValueException for the first record that is not a valid person, or that clashes with an earlier
+     *     record, with the same message as {@link JsonSerializableAddressBook#addUniquePerson}.
+     */
+    static <T> AddressBook load(List<T> records, Converter<? super T> converter) throws IllegalValueException {
+        Pipeline<T> pipeline = new Pipeline<>(converter, true);
+        records.forEach(pipeline::add);
+        return pipeline.toAddressBook();
+    }
+
+    /**
+     * Returns an address book of {@code persons}, in order.
+     *
+     * @throws IllegalValueException for the first person that clashes with an earlier one.
+     */
+    static AddressBook load(List<Person> persons) throws IllegalValueException {
+        return load(persons, person -> person);
+    }
+
+    /**
+     * Converts records into persons as they are added, a chunk at a time.
+     *
+     * <p>Each full chunk is handed to the common fork/join pool while more records are added. At most one more
+     * chunk than the pool has threads is in flight; adding a record that fills another chunk waits for the oldest
+     * one first. Converted chunks are collected in the order they were added.
+     */
+    static final class Pipeline<T> {
+        private static final int MAX_CHUNKS_IN_FLIGHT = ForkJoinPool.getCommonPoolParallelism() + 1;
+
+        private final Converter<? super T> converter;
+        private final boolean checksClashes;
+        private final Deque<ForkJoinTask<Chunk>> chunksInFlight = new ArrayDeque<>();
+        private final List<Person> persons = new ArrayList<>();
+        private final AtomicInteger firstFailedChunk = new AtomicInteger(Integer.MAX_VALUE);
+        // Persons with the same identity also have the same email, so these sets catch duplicate persons too.
+        private final Set<String> emails = ConcurrentHashMap.newKeySet();
+        private final Set<String> phones = ConcurrentHashMap.newKeySet();
+        private volatile boolean hasClash;
+        private List<T> records = new ArrayList<>(CHUNK_SIZE);
+        private int chunkCount;
+        private IllegalValueException failure;
+
+        /**
+         * Creates a pipeline that converts records with {@code converter}.
+         *
+         * @param checksClashes whether the persons will be checked against each other by {@link #toAddressBook()}.
+         */
+        Pipeline(Converter<? super T> converter, boolean checksClashes) {
+            this.converter = requireNonNull(converter);
+            this.checksClashes = checksClashes;
+        }
+
+        /**
+         * Adds the next record, handing its chunk to the pool if the record fills it.
+         */
+        void add(T record) {
+            records.add(record);
+            if (records.size() == CHUNK_SIZE) {
+                submitChunk();
+            }
+        }
+
+        /**
+         * Returns the persons stored in the records added, in order, in a list that can be modified.
+         *
+         * @throws IllegalValueException for the first record that is not a valid person.
+         */
+        List<Person> toPersons() throws IllegalValueException {
+            finish();
+            if (failure != null) {
+                throw failure;
+            }
+            return persons;
+        }
+
+        /**
+         * Returns an address book of the persons stored in the records added, in order.
+         *
+         * @throws IllegalValueException for the first record that is not a valid person, or that clashes with an
+         *     earlier record, with the same message as {@link JsonSerializableAddressBook#addUniquePerson}.
+         */
+        AddressBook toAddressBook() throws IllegalValueException {
+            finish();
+            if (hasClash) {
+                // Rare, so the clash is pinned down by adding the persons before the first invalid record in order.
+                AddressBook addressBook = new AddressBook();
+                for (Person person : persons) {
+                    JsonSerializableAddressBook.addUniquePerson(addressBook, person);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        }
+
+        private void finish() {
+            if (!records.isEmpty()) {
+                submitChunk();
+            }
+            while (!chunksInFlight.isEmpty()) {
+                collect(chunksInFlight.removeFirst());
+            }
+        }
+
+        private void submitChunk() {
+            List<T> chunkRecords = records;
+            records = new ArrayList<>(CHUNK_SIZE);
+            if (failure != null) {
+                return; // records after an invalid one cannot change the outcome
+            }
+            if (chunksInFlight.size() == MAX_CHUNKS_IN_FLIGHT) {
+                collect(chunksInFlight.removeFirst());
+            }
+            int index = chunkCount++;
+            chunksInFlight.addLast(ForkJoinPool.commonPool().submit(() -> convert(index, chunkRecords)));
+        }
+
+        private void collect(ForkJoinTask<Chunk> task) {
+            Chunk chunk = task.join();
+            if (failure != null) {
+                return;
+            }
+            persons.addAll(chunk.persons);
+            failure = chunk.failure;
+        }
+
+        /**
+         * Converts {@code chunkRecords} up to the first invalid one, unless an earlier chunk has one.
+         */
+        private Chunk convert(int index, List<T> chunkRecords) {
+            Chunk chunk = new Chunk(chunkRecords.size());
+            for (T record : chunkRecords) {
+                if (firstFailedChunk.get() < index) {
+                    break;
+                }
+                try {
+                    Person person = requireNonNull(converter.convert(record));
+                    chunk.persons.add(person);
+                    if (checksClashes
+                            && (!emails.add(person.getEmail().value) || !phones.add(person.getPhone().value))) {
+                        hasClash = true;
+                    }
+                } catch (IllegalValueException e) {
+                    chunk.failure = e;
+                    firstFailedChunk.accumulateAndGet(index, Math::min);
+                    break;
+                }
+            }
+            return chunk;
+        }
+    }
+
+    /**
+     * The persons converted from one chunk of records, up to the first invalid record if there is one.
+     */
+    private static final class Chunk {
+        private final List<Person> persons;
+        private IllegalValueException failure;
+
+        Chunk(int size) {
+            persons = new ArrayList<>(size);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as segment files of up to a fixed number of persons each,
+ * listed in order by an index file.
+ *
+ * <p>The index file is at the address book file path, and the segments are json files in a directory next to it.
+ * A save rewrites only the segments holding persons that were added, edited or deleted since the previous save,
+ * so its cost grows with the number of segments touched rather than the size of the address book.
+ *
+ * <p>Segments are never overwritten. A save writes its segments under new names and then replaces the index,
+ * so a crash part way through leaves the previous index and all of its segments intact.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".segments";
+    public static final String DIRECTORY_EXTENSION = ".d";
+    public static final int DEFAULT_SEGMENT_SIZE = 1000;
+
+    public static final String MESSAGE_SEGMENT_MISMATCH = "Segment %s does not match the segment index.";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+    private static final String SEGMENT_FILE_FORMAT = "segment-%d.json";
+    private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-(\\d+)\\.json");
+
+    private final Path filePath;
+    private final int segmentSize;
+    private final DataFileWriter fileWriter;
+
+    /** The persons as last saved to or read from {@code filePath}, or null if unknown. */
+    private List<Person> savedPersons;
+    /** The segments holding {@code savedPersons}, in order. */
+    private List<Segment> savedSegments;
+
+    /**
+     * Creates a storage at {@code filePath} with segments of up to {@link #DEFAULT_SEGMENT_SIZE} persons.
+     */
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE, false);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} with segments of up to {@code segmentSize} persons, that leaves
+     * forcing its saves onto the disk to {@link #sync()} if {@code isSyncDeferred} is true.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int segmentSize, boolean isSyncDeferred) {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segments must hold at least one person");
+        }
+        this.filePath = requireNonNull(filePath);
+        this.segmentSize = segmentSize;
+        this.fileWriter = new DataFileWriter(isSyncDeferred);
+    }
+
+    /**
+     * Returns true if {@code filePath} names an index file of this format, judging by its extension.
+     */
+    public static boolean isSegmentedFile(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the directory holding the segments listed by the index file at {@code indexPath}.
+     */
+    public static Path getSegmentsDirectory(Path indexPath) {
+        return indexPath.resolveSibling(indexPath.getFileName() + DIRECTORY_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            SegmentIndex index = JsonUtil.fromJsonString(Files.readString(filePath, StandardCharsets.UTF_8),
+                    SegmentIndex.class);
+            Path directory = getSegmentsDirectory(filePath);
+            List<Person> persons = new ArrayList<>();
+            for (Segment segment : index.segments) {
+                persons.addAll(readSegment(directory, segment));
+            }
+            AddressBook addressBook = ParallelPersonLoader.load(persons);
+
+            if (filePath.equals(this.filePath)) {
+                savedPersons = List.copyOf(addressBook.getPersonList());
+                savedSegments = List.copyOf(index.segments);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static List<Person> readSegment(Path directory, Segment segment)
+            throws IOException, IllegalValueException {
+        if (segment.file == null || !SEGMENT_FILE_PATTERN.matcher(segment.file).matches()) {
+            throw new IllegalValueException(String.format(MESSAGE_SEGMENT_MISMATCH, segment.file));
+        }
+        CRC32 crc = new CRC32();
+        List<Person> persons;
+        try (InputStream in = new BufferedInputStream(
+                new CheckedInputStream(Files.newInputStream(directory.resolve(segment.file)), crc))) {
+            persons = JsonSerializableAddressBook.readPersons(in);
+            in.transferTo(OutputStream.nullOutputStream()); // so that the checksum covers the whole file
+        }
+        if (persons.size() != segment.count || crc.getValue() != segment.checksum) {
+            throw new IllegalValueException(String.format(MESSAGE_SEGMENT_MISMATCH, segment.file));
+        }
+        return persons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any path other than this storage's own writes every segment there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            writeAll(persons, filePath);
+            return;
+        }
+        if (savedPersons == null) {
+            savedSegments = writeAll(persons, filePath);
+            savedPersons = persons;
+            return;
+        }
+
+        int maxCommon = Math.min(savedPersons.size(), persons.size());
+        int prefix = 0;
+        while (prefix < maxCommon && savedPersons.get(prefix) == persons.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix && savedPersons.get(savedPersons.size() - 1 - suffix)
+                == persons.get(persons.size() - 1 - suffix)) {
+            suffix++;
+        }
+        int removed = savedPersons.size() - prefix - suffix;
+        if (removed == 0 && persons.size() == savedPersons.size()) {
+            return;
+        }
+
+        // Find the segments holding the removed persons, or the one to insert into if nothing was removed
+        int firstTouched = 0;
+        int touchedStart = 0;
+        while (firstTouched < savedSegments.size() - 1
+                && touchedStart + savedSegments.get(firstTouched).count <= prefix) {
+            touchedStart += savedSegments.get(firstTouched).count;
+            firstTouched++;
+        }
+        int lastTouched = firstTouched;
+        int touchedEnd = savedSegments.isEmpty() ? 0 : touchedStart + savedSegments.get(firstTouched).count;
+        while (touchedEnd < prefix + removed) {
+            lastTouched++;
+            touchedEnd += savedSegments.get(lastTouched).count;
+        }
+
+        Path directory = getSegmentsDirectory(filePath);
+        long nextNumber = nextSegmentNumber(directory);
+        int newTouchedEnd = touchedEnd + persons.size() - savedPersons.size();
+        List<Segment> segments = new ArrayList<>(savedSegments.subList(0, firstTouched));
+        segments.addAll(writeSegments(persons.subList(touchedStart, newTouchedEnd), directory, nextNumber));
+        if (lastTouched < savedSegments.size()) {
+            segments.addAll(savedSegments.subList(lastTouched + 1, savedSegments.size()));
+        }
+        writeIndex(segments, filePath);
+        deleteSegmentsNotIn(segments, directory);
+
+        savedSegments = segments;
+        savedPersons = persons;
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath} in new segments, and returns the segments.
+     */
+    private List<Segment> writeAll(List<Person> persons, Path filePath) throws IOException {
+        Path directory = getSegmentsDirectory(filePath);
+        List<Segment> segments = writeSegments(persons, directory, nextSegmentNumber(directory));
+        writeIndex(segments, filePath);
+        deleteSegmentsNotIn(segments, directory);
+        return segments;
+    }
+
+    private List<Segment> writeSegments(List<Person> persons, Path directory, long firstNumber) throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        for (int start = 0; start < persons.size(); start += segmentSize) {
+            List<Person> segmentPersons = persons.subList(start, Math.min(start + segmentSize, persons.size()));
+            String file = String.format(SEGMENT_FILE_FORMAT, firstNumber + segments.size());
+            CRC32 crc = new CRC32();
+            fileWriter.replace(directory.resolve(file), out -> JsonSerializableAddressBook.writePersons(
+                    segmentPersons, new CheckedOutputStream(out, crc), true));
+            segments.add(new Segment(file, segmentPersons.size(), crc.getValue()));
+        }
+        return segments;
+    }
+
+    private void writeIndex(List<Segment> segments, Path filePath) throws IOException {
+        byte[] index = JsonUtil.toJsonString(new SegmentIndex(segments)).getBytes(StandardCharsets.UTF_8);
+        fileWriter.replace(filePath, out -> out.write(index));
+    }
+
+    /**
+     * Returns a number higher than that of any segment file in {@code directory}.
+     */
+    private static long nextSegmentNumber(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_FILE_PATTERN.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToLong(matcher -> Long.parseLong(matcher.group(1)) + 1)
+                    .max()
+                    .orElse(0);
+        }
+    }
+
+    /**
+     * Deletes the segment files in {@code directory} that are not among {@code segments}.
+     */
+    private static void deleteSegmentsNotIn(List<Segment> segments, Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Set<String> kept = segments.stream().map(segment -> segment.file).collect(Collectors.toSet());
+        List<Path> stale;
+        try (Stream<Path> files = Files.list(directory)) {
+            stale = files.filter(file -> SEGMENT_FILE_PATTERN.matcher(file.getFileName().toString()).matches()
+                    && !kept.contains(file.getFileName().toString())).collect(Collectors.toList());
+        }
+        for (Path file : stale) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public void sync() throws IOException {
+        fileWriter.sync();
+    }
+
+    /**
+     * The contents of the index file: the segments of the address book, in order.
+     */
+    private static class SegmentIndex {
+        private final List<Segment> segments = new ArrayList<>();
+
+        @JsonCreator
+        SegmentIndex(@JsonProperty("segments") List<Segment> segments) {
+            if (segments != null) {
+                this.segments.addAll(segments);
+            }
+        }
+    }
+
+    /**
+     * One segment file, with the number of persons in it and the checksum of its contents.
+     */
+    private static class Segment {
+        private final String file;
+        private final int count;
+        private final long checksum;
+
+        @JsonCreator
+        Segment(@JsonProperty("file") String file, @JsonProperty("count") int count,
+                @JsonProperty("checksum") long checksum) {
+            this.file = file;
+            this.count = count;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -75,4 +76,20 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void sync() throws IOException {
+        addressBookStorage.sync();
+    }
+
+    @Override
+    public List<String> listBackups() throws IOException {
+        return addressBookStorage.listBackups();
+    }
+
+    @Override
+    public ReadOnlyAddressBook readBackup(String backupName) throws DataLoadingException {
+        logger.fine("Attempting to read backup: " + backupName);
+        return addressBookStorage.readBackup(backupName);
+    }
+
 }
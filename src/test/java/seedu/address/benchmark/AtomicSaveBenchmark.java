@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generatePersons;
+import static seedu.address.benchmark.BenchmarkUtil.parseSizes;
+import static seedu.address.benchmark.BenchmarkUtil.time;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures what replacing the data file atomically and forcing it onto the disk adds to a save.
+ * The raw file writes use the bytes of a saved JSON file, so that they leave out the cost of serializing.
+ * Usage: {@code AtomicSaveBenchmark [SIZE]...} (defaults to 1k, 10k and 100k persons).
+ */
+public class AtomicSaveBenchmark {
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("atomic-save-benchmark");
+        Path file = folder.resolve("addressbook.json");
+        for (int size : parseSizes(args, 1_000, 10_000, 100_000)) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(generatePersons(size));
+            AddressBookStorage forced = new JsonAddressBookStorage(file, true, false);
+            AddressBookStorage deferred = new JsonAddressBookStorage(file, true, true);
+            forced.saveAddressBook(addressBook);
+            byte[] bytes = Files.readAllBytes(file);
+
+            String prefix = String.format("%,d persons: ", size);
+            measure(prefix + "write in place", () -> Files.write(file, bytes));
+            FileUtil.ContentWriter contents = out -> out.write(bytes);
+            measure(prefix + "write atomically", () -> FileUtil.writeAtomically(file, contents, false));
+            measure(prefix + "write atomically and force", () -> FileUtil.writeAtomically(file, contents, true));
+            measure(prefix + "save, sync deferred", () -> deferred.saveAddressBook(addressBook));
+            measure(prefix + "save, synced", () -> forced.saveAddressBook(addressBook));
+            measure(prefix + "10 saves, one batched sync", () -> {
+                for (int i = 0; i < 10; i++) {
+                    deferred.saveAddressBook(addressBook);
+                }
+                deferred.sync();
+            });
+            measure(prefix + "10 saves, each synced", () -> {
+                for (int i = 0; i < 10; i++) {
+                    forced.saveAddressBook(addressBook);
+                }
+            });
+        }
+        Files.delete(file);
+        Files.delete(folder);
+    }
+
+    private static void measure(String label, IoTask task) {
+        time(label, () -> {
+            try {
+                task.run();
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * A task that may fail to write a file.
+     */
+    @FunctionalInterface
+    private interface IoTask {
+        void run() throws IOException;
+    }
+}
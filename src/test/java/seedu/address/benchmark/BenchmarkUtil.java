@@ -0,0 +1,115 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Skill;
+import seedu.address.model.tag.Category;
+
+/**
+ * Helpers shared by the benchmarks in this package.
+ * Benchmarks are plain {@code main} programs rather than tests, so they are not run as part of {@code gradle test}.
+ */
+public class BenchmarkUtil {
+
+    public static final String[] SKILLS = {
+        "java", "python", "sql", "csharp", "javascript", "typescript", "go", "rust", "kotlin", "scala",
+        "react", "angular", "spring", "docker", "kubernetes", "aws", "azure", "terraform", "linux", "git"
+    };
+    public static final String[] DEPARTMENTS = {"Engineering", "Finance", "Marketing", "Human Resources", "Sales"};
+    public static final String[] TEAMS = {"Alpha", "Bravo", "Charlie", "Delta", "Echo", "Foxtrot", "Golf", "Hotel"};
+    public static final String[] ROLES = {"Software Engineer", "Manager", "Intern", "Analyst", "QA Tester"};
+
+    private static final int DEFAULT_RUNS = 5;
+
+    private BenchmarkUtil() {} // prevents instantiation
+
+    /**
+     * Returns {@code count} distinct synthetic persons.
+     * Every person has a department, team and role, and between one and three skills.
+     */
+    public static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the synthetic person with the given sequence number.
+     */
+    public static Person generatePerson(int i) {
+        return new Person(new Name("Employee " + i), new Phone(String.format("%08d", i)),
+                new Email("employee" + i + "@example.com"), generateCategories(i), generateSkills(i));
+    }
+
+    /**
+     * Returns freshly created categories of the synthetic person with the given sequence number.
+     */
+    public static Set<Category> generateCategories(int i) {
+        Set<Category> categories = new HashSet<>();
+        categories.add(new Category("Department", DEPARTMENTS[i % DEPARTMENTS.length]));
+        categories.add(new Category("Team", TEAMS[(i / 3) % TEAMS.length]));
+        categories.add(new Category("Role", ROLES[(i / 7) % ROLES.length]));
+        return categories;
+    }
+
+    /**
+     * Returns freshly created skills of the synthetic person with the given sequence number.
+     */
+    public static Set<Skill> generateSkills(int i) {
+        Set<Skill> skills = new HashSet<>();
+        for (int s = 0; s <= i % 3; s++) {
+            skills.add(new Skill(SKILLS[(i * 7 + s * 13) % SKILLS.length]));
+        }
+        return skills;
+    }
+
+    /**
+     * Runs {@code task} once to warm up, then {@code DEFAULT_RUNS} more times, and prints the best time.
+     */
+    public static <T> T time(String label, Supplier<T> task) {
+        T result = task.get();
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < DEFAULT_RUNS; run++) {
+            long start = System.nanoTime();
+            result = task.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-50s %10.3f ms%n", label, best / 1_000_000.0);
+        return result;
+    }
+
+    /**
+     * Returns the number of bytes of heap in use after asking the JVM to collect garbage.
+     */
+    public static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Returns the benchmark sizes passed on the command line, or {@code defaults} if there are none.
+     */
+    public static int[] parseSizes(String[] args, int... defaults) {
+        if (args.length == 0) {
+            return defaults;
+        }
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
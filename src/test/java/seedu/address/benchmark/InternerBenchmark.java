@@ -0,0 +1,64 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generateCategories;
+import static seedu.address.benchmark.BenchmarkUtil.generatePersons;
+import static seedu.address.benchmark.BenchmarkUtil.generateSkills;
+import static seedu.address.benchmark.BenchmarkUtil.parseSizes;
+import static seedu.address.benchmark.BenchmarkUtil.usedHeapAfterGc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Skill;
+import seedu.address.model.tag.Category;
+
+/**
+ * Reports how much heap interning skills and categories saves on synthetic address books.
+ * Usage: {@code InternerBenchmark [SIZE]...} (defaults to 1M persons). Run with a heap of a few gigabytes.
+ *
+ * <p>The skills and categories of every person are created afresh, as JSON load does, and kept either
+ * as they are or replaced by their canonical instances. The difference in retained heap is the saving.
+ */
+public class InternerBenchmark {
+
+    private static final double MEGABYTE = 1024 * 1024;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        for (int size : parseSizes(args, 1_000_000)) {
+            long fresh = measureValues(size, UnaryOperator.identity(), UnaryOperator.identity());
+            long interned = measureValues(size, Skill::intern, Category::intern);
+            System.out.printf("%,d persons: skills and categories take %.1f MB fresh, %.1f MB interned "
+                    + "(%.1f MB saved)%n", size, fresh / MEGABYTE, interned / MEGABYTE, (fresh - interned) / MEGABYTE);
+
+            long before = usedHeapAfterGc();
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(generatePersons(size));
+            long book = usedHeapAfterGc() - before;
+            System.out.printf("%,d persons: address book with its indexes takes %.1f MB%n",
+                    addressBook.getPersonList().size(), book / MEGABYTE);
+        }
+    }
+
+    /**
+     * Returns the heap retained by the skills and categories of {@code size} persons after the given mapping.
+     */
+    private static long measureValues(int size, UnaryOperator<Skill> skillMapper,
+            UnaryOperator<Category> categoryMapper) {
+        long before = usedHeapAfterGc();
+        List<Object[]> retained = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            retained.add(generateSkills(i).stream().map(skillMapper).toArray());
+            retained.add(generateCategories(i).stream().map(categoryMapper).toArray());
+        }
+        long used = usedHeapAfterGc() - before;
+        if (retained.size() != 2 * size) {
+            throw new AssertionError();
+        }
+        return used;
+    }
+}
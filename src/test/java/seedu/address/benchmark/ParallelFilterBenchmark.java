@@ -0,0 +1,58 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generatePersons;
+import static seedu.address.benchmark.BenchmarkUtil.parseSizes;
+import static seedu.address.benchmark.BenchmarkUtil.time;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures {@code Model#updateFilteredPersonList} on synthetic address books with a predicate that the address book
+ * indexes cannot narrow down, on the calling thread and then in parallel on fork/join pools of growing size.
+ * Every run uses a new predicate, so that no result is served from the filter cache.
+ * Usage: {@code ParallelFilterBenchmark [SIZE]...} (defaults to 100k and 300k persons).
+ */
+public class ParallelFilterBenchmark {
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("available processors: " + cores);
+        for (int size : parseSizes(args, 100_000, 300_000)) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(generatePersons(size));
+            Model model = new ModelManager(addressBook, new UserPrefs());
+
+            model.setParallelFilterThreshold(0);
+            int matches = time(String.format("%,d persons: calling thread", size), () -> filter(model));
+            model.setParallelFilterThreshold(1);
+            for (int parallelism = 1; parallelism <= Math.max(cores, 4); parallelism *= 2) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                time(String.format("%,d persons: %d threads", size, parallelism), () ->
+                        pool.submit(() -> filter(model)).join());
+                pool.shutdown();
+            }
+            System.out.println("matches: " + matches);
+        }
+    }
+
+    /**
+     * Filters the persons in {@code model} by the digits in their email address, and returns the number shown.
+     */
+    private static int filter(Model model) {
+        String digits = new String("7");
+        Predicate<Person> predicate = person -> person.getEmail().value.contains(digits)
+                && person.getName().fullName.endsWith(digits);
+        model.updateFilteredPersonList(predicate);
+        return model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generatePersons;
+import static seedu.address.benchmark.BenchmarkUtil.parseSizes;
+import static seedu.address.benchmark.BenchmarkUtil.time;
+
+import java.util.List;
+
+import seedu.address.model.index.FullTextIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures ranked search for {@code backend java alpha} on synthetic address books: building the full-text index,
+ * taking the best 50 matches through the bounded heap, and ranking every match.
+ * Usage: {@code SearchBenchmark [SIZE]...} (defaults to 100k and 300k persons).
+ */
+public class SearchBenchmark {
+
+    private static final String QUERY = "backend java alpha";
+    private static final int LIMIT = 50;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        for (int size : parseSizes(args, 100_000, 300_000)) {
+            List<Person> persons = generatePersons(size);
+            FullTextIndex index = time(String.format("%,d persons: build index", size), () -> {
+                FullTextIndex built = new FullTextIndex();
+                persons.forEach(built::add);
+                return built;
+            });
+
+            List<Person> top = time(String.format("%,d persons: best %d", size, LIMIT), () ->
+                    index.search(QUERY, LIMIT));
+            List<Person> all = time(String.format("%,d persons: rank every match", size), () ->
+                    index.search(QUERY, Integer.MAX_VALUE));
+            System.out.printf("matches: %,d, best: %s%n", all.size(), top.get(0).getName());
+        }
+    }
+}
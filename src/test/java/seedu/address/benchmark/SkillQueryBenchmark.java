@@ -0,0 +1,54 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generatePersons;
+import static seedu.address.benchmark.BenchmarkUtil.parseSizes;
+import static seedu.address.benchmark.BenchmarkUtil.time;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.logic.parser.SkillExpressionParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesListFiltersPredicate;
+import seedu.address.model.person.predicate.SkillExpression;
+import seedu.address.model.person.predicate.SkillExpressionPredicate;
+
+/**
+ * Compares ways of answering {@code python AND kotlin AND NOT aws} on synthetic address books:
+ * chaining {@code PersonMatchesListFiltersPredicate}s over every person, testing the parsed expression
+ * against every person, and evaluating the expression on the skill bitmaps of the address book.
+ * Usage: {@code SkillQueryBenchmark [SIZE]...} (defaults to 100k and 1M persons).
+ */
+public class SkillQueryBenchmark {
+
+    private static final String QUERY = "python AND kotlin AND NOT aws";
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws ParseException {
+        SkillExpression expression = SkillExpressionParser.parse(QUERY);
+        Predicate<Person> chained = skill("python").and(skill("kotlin")).and(skill("aws").negate());
+        SkillExpressionPredicate predicate = new SkillExpressionPredicate(expression);
+
+        for (int size : parseSizes(args, 100_000, 1_000_000)) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(generatePersons(size));
+            List<Person> persons = addressBook.getPersonList();
+
+            long scanned = time("chained list filters scan, " + size + " persons", () ->
+                    persons.stream().filter(chained).count());
+            long tested = time("expression test() scan, " + size + " persons", () ->
+                    persons.stream().filter(predicate).count());
+            long evaluated = time("expression on bitmaps, " + size + " persons", () ->
+                    (long) addressBook.getPersonsMatching(expression).size());
+            System.out.printf("matches: %d / %d / %d%n", scanned, tested, evaluated);
+        }
+    }
+
+    private static Predicate<Person> skill(String needle) {
+        return new PersonMatchesListFiltersPredicate(List.of(needle), List.of());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generatePersons;
+import static seedu.address.benchmark.BenchmarkUtil.parseSizes;
+import static seedu.address.benchmark.BenchmarkUtil.time;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares saving and loading synthetic address books as JSON and in the binary format.
+ * Usage: {@code StorageBenchmark [SIZE]...} (defaults to 100k and 300k persons).
+ */
+public class StorageBenchmark {
+
+    private static final double MEGABYTE = 1024 * 1024;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("storage-benchmark");
+        for (int size : parseSizes(args, 100_000, 300_000)) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(generatePersons(size));
+
+            run(size, "JSON", new JsonAddressBookStorage(folder.resolve("addressbook.json")), addressBook);
+            run(size, "compact JSON", new JsonAddressBookStorage(folder.resolve("compact.json"), true), addressBook);
+            run(size, "binary", new BinaryAddressBookStorage(folder.resolve("addressbook.bin")), addressBook);
+        }
+    }
+
+    private static void run(int size, String format, AddressBookStorage storage, AddressBook addressBook)
+            throws IOException {
+        time(String.format("%,d persons: save %s", size, format), () -> save(storage, addressBook));
+        ReadOnlyAddressBook loaded = time(String.format("%,d persons: load %s", size, format), () -> load(storage));
+        if (!addressBook.equals(new AddressBook(loaded))) {
+            throw new AssertionError(format + " did not load what was saved");
+        }
+        System.out.printf("%,d persons: %s file is %.1f MB%n", size, format,
+                Files.size(storage.getAddressBookFilePath()) / MEGABYTE);
+        Files.delete(storage.getAddressBookFilePath());
+    }
+
+    private static Void save(AddressBookStorage storage, ReadOnlyAddressBook addressBook) {
+        try {
+            storage.saveAddressBook(addressBook);
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ReadOnlyAddressBook load(AddressBookStorage storage) {
+        try {
+            return storage.readAddressBook().get();
+        } catch (DataLoadingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
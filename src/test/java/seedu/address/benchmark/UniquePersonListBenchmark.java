@@ -0,0 +1,39 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generatePersons;
+import static seedu.address.benchmark.BenchmarkUtil.parseSizes;
+import static seedu.address.benchmark.BenchmarkUtil.time;
+
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures how long it takes to load address books of increasing size into a {@code UniquePersonList}.
+ * Usage: {@code UniquePersonListBenchmark [SIZE]...} (defaults to 10k, 100k and 1M persons).
+ */
+public class UniquePersonListBenchmark {
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        for (int size : parseSizes(args, 10_000, 100_000, 1_000_000)) {
+            List<Person> persons = generatePersons(size);
+
+            time("setPersons, " + size + " persons", () -> {
+                UniquePersonList list = new UniquePersonList();
+                list.setPersons(persons);
+                return list;
+            });
+
+            time("addPerson one at a time, " + size + " persons", () -> {
+                AddressBook addressBook = new AddressBook();
+                persons.forEach(addressBook::addPerson);
+                return addressBook;
+            });
+        }
+    }
+}
@@ -12,7 +12,14 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", savePolicy=" + config.getSavePolicy()
+                + ", saveIntervalMillis=" + config.getSaveIntervalMillis()
+                + ", syncIntervalMillis=" + config.getSyncIntervalMillis()
+                + ", isDataFileCompressed=" + config.isDataFileCompressed()
+                + ", backupCount=" + config.getBackupCount()
+                + ", backupIntervalMillis=" + config.getBackupIntervalMillis()
+                + ", parallelFilterThreshold=" + config.getParallelFilterThreshold() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,49 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {'n', 'e', 'w'}), false);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), Files.list(file.getParent()).toList());
+    }
+
+    @Test
+    public void writeAtomically_renameNotForced_contentsForcedBeforeRename() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+        List<String> forced = new ArrayList<>();
+        FileUtil.setContentsForcedListener(tempFile -> {
+            try {
+                forced.add(FileUtil.readFromFile(tempFile) + " over " + FileUtil.readFromFile(file));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        try {
+            FileUtil.writeAtomically(file, out -> out.write(new byte[] {'n', 'e', 'w'}), false);
+        } finally {
+            FileUtil.setContentsForcedListener(tempFile -> {});
+        }
+
+        assertEquals(List.of("new over old contents"), forced);
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_originalKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write(new byte[] {'n', 'e', 'w'});
+            throw new IOException("disk full");
+        }, true));
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), Files.list(testFolder).toList());
+    }
+
 }
@@ -1,9 +1,16 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +46,37 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeJsonArray_readJsonArray_sameElements() throws Exception {
+        List<SerializableTestClass> elements = List.of(new SerializableTestClass(), new SerializableTestClass());
+        elements.forEach(SerializableTestClass::setTestValues);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtil.writeJsonArray(out, "elements", elements, true);
+        assertFalse(out.toString(StandardCharsets.UTF_8).contains("\n"));
+
+        List<SerializableTestClass> readBack = new ArrayList<>();
+        JsonUtil.readJsonArray(new ByteArrayInputStream(out.toByteArray()), "elements", SerializableTestClass.class,
+                readBack::add);
+        assertEquals(2, readBack.size());
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.get(1).getName());
+    }
+
+    @Test
+    public void readJsonArray_otherFields_skipped() throws Exception {
+        String json = "{\"other\": {\"elements\": [1]}, \"elements\": [2, 3], \"more\": [4]}";
+        List<Integer> readBack = new ArrayList<>();
+        JsonUtil.readJsonArray(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "elements",
+                Integer.class, readBack::add);
+        assertEquals(List.of(2, 3), readBack);
+    }
+
+    @Test
+    public void readJsonArray_truncated_throwsIoException() {
+        String json = "{\"elements\": [2, 3";
+        assertThrows(IOException.class, () -> JsonUtil.readJsonArray(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "elements", Integer.class, i -> {}));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,17 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_equalIgnoringCase_sameFoldedWord() {
+        assertEquals(StringUtil.foldCase("aLIce"), StringUtil.foldCase("ALICE"));
+        // Characters that equalsIgnoreCase matches through their upper case form
+        assertEquals(StringUtil.foldCase("\u212A"), StringUtil.foldCase("k"));
+        assertEquals(StringUtil.foldCase("\u0131"), StringUtil.foldCase("I"));
+        assertFalse(StringUtil.foldCase("alice").equals(StringUtil.foldCase("alicia")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
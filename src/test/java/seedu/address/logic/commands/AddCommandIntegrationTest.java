@@ -45,4 +45,18 @@ public class AddCommandIntegrationTest {
                 String.format(AddCommand.MESSAGE_DUPLICATE_PERSON, Messages.format(personInList)));
     }
 
+    @Test
+    public void execute_duplicateEmail_throwsCommandException() {
+        Person personInList = model.getAddressBook().getPersonList().get(0);
+        Person sameEmail = new PersonBuilder().withEmail(personInList.getEmail().value).build();
+        assertCommandFailure(new AddCommand(sameEmail), model, AddCommand.MESSAGE_DUPLICATE_EMAIL);
+    }
+
+    @Test
+    public void execute_duplicatePhone_throwsCommandException() {
+        Person personInList = model.getAddressBook().getPersonList().get(0);
+        Person samePhone = new PersonBuilder().withPhone(personInList.getPhone().value).build();
+        assertCommandFailure(new AddCommand(samePhone), model, AddCommand.MESSAGE_DUPLICATE_PHONE);
+    }
+
 }
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,10 +21,17 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookBackups;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Skill;
+import seedu.address.model.person.predicate.QueryExpression;
+import seedu.address.model.person.predicate.QueryPlan;
+import seedu.address.model.tag.Category.CategoryType;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -119,6 +128,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookBackups getAddressBookBackups() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAddressBookBackups(AddressBookBackups addressBookBackups) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -173,6 +192,46 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public int countPersonsWithSkill(Skill skill) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> countFilteredPersonsByCategory(CategoryType type) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> findPersonByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> findPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setParallelFilterThreshold(int threshold) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planQuery(QueryExpression expression) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rankFilteredPersonList(String query, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -205,6 +264,18 @@ public class AddCommandTest {
             return personsAdded.stream().anyMatch(person::isSamePerson);
         }
 
+        @Override
+        public Optional<Person> findPersonByEmail(Email email) {
+            requireNonNull(email);
+            return personsAdded.stream().filter(person -> person.getEmail().equals(email)).findFirst();
+        }
+
+        @Override
+        public Optional<Person> findPersonByPhone(Phone phone) {
+            requireNonNull(phone);
+            return personsAdded.stream().filter(person -> person.getPhone().equals(phone)).findFirst();
+        }
+
         @Override
         public void addPerson(Person person) {
             requireNonNull(person);
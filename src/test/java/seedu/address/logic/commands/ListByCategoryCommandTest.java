@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Category;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ListByCategoryCommandTest {
+
+    private final AddressBook addressBook = new AddressBookBuilder()
+            .withPerson(new PersonBuilder().withName("Alice").withPhone("111").withEmail("alice@example.com")
+                    .withCategories(List.of(new Category("Team", "Alpha"), new Category("Role", "Manager")))
+                    .build())
+            .withPerson(new PersonBuilder().withName("Bob").withPhone("222").withEmail("bob@example.com")
+                    .withCategories(List.of(new Category("Team", "alpha"))).build())
+            .withPerson(new PersonBuilder().withName("Carl").withPhone("333").withEmail("carl@example.com")
+                    .withCategories(List.of(new Category("Team", "Bravo"))).build())
+            .withPerson(new PersonBuilder().withName("Dan").withPhone("444").withEmail("dan@example.com").build())
+            .build();
+    private final Model model = new ModelManager(addressBook, new UserPrefs());
+    private final Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+    @Test
+    public void execute_unfilteredList_countsEveryGroup() {
+        String expectedMessage = ListByCategoryCommand.MESSAGE_SUCCESS_PREFIX + "team:\n"
+                + "- (unspecified): 1 member(s)\n"
+                + "- Alpha: 2 member(s)\n"
+                + "- Bravo: 1 member(s)\n";
+        assertCommandSuccess(new ListByCategoryCommand("team"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_countsOnlyShownPersons() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Alice", "Dan"));
+        model.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = ListByCategoryCommand.MESSAGE_SUCCESS_PREFIX + "role:\n"
+                + "- (unspecified): 1 member(s)\n"
+                + "- Manager: 1 member(s)\n";
+        assertCommandSuccess(new ListByCategoryCommand("ROLE"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emptyList_listsNoGroups() {
+        Model emptyModel = new ModelManager();
+        assertCommandSuccess(new ListByCategoryCommand("department"), emptyModel,
+                ListByCategoryCommand.MESSAGE_SUCCESS_PREFIX + "department:\n", new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        ListByCategoryCommand teamCommand = new ListByCategoryCommand("team");
+        assertTrue(teamCommand.equals(teamCommand));
+        assertTrue(teamCommand.equals(new ListByCategoryCommand("TEAM")));
+        assertFalse(teamCommand.equals(new ListByCategoryCommand("role")));
+        assertFalse(teamCommand.equals(null));
+    }
+}
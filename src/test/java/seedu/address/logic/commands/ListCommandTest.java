@@ -1,13 +1,19 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonMatchesListFiltersPredicate;
 import seedu.address.model.person.predicate.PersonHasTagPredicate;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class ListCommandTest {
@@ -26,4 +32,18 @@ public class ListCommandTest {
         expectedModel.updateFilteredPersonList(pred);
         assertCommandSuccess(new ListCommand(pred), model, ListCommand.MESSAGE_FILTERED_NONE, expectedModel);
     }
+
+    @Test
+    public void execute_filteredBySkillSubstring_showsMatchingPersons() {
+        Model skilledModel = new ModelManager(new AddressBook(), new UserPrefs());
+        skilledModel.addPerson(new PersonBuilder(TypicalPersons.ALICE).withSkills("javascript").build());
+        skilledModel.addPerson(new PersonBuilder(TypicalPersons.BENSON).withSkills("python").build());
+        Model expectedSkilledModel = new ModelManager(skilledModel.getAddressBook(), new UserPrefs());
+        expectedSkilledModel.updateFilteredPersonList(
+                new PersonMatchesListFiltersPredicate(List.of("scr"), List.of()));
+
+        assertCommandSuccess(ListCommand.filtered(List.of("scr"), List.of()), skilledModel,
+                ListCommand.MESSAGE_FILTERED_SUCCESS, expectedSkilledModel);
+        assertEquals(1, skilledModel.getFilteredPersonList().size());
+    }
 }
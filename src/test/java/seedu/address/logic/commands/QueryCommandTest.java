@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.predicate.QueryExpression;
+import seedu.address.model.person.predicate.QueryField;
+import seedu.address.model.person.predicate.QueryPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private static final QueryExpression MEIER = QueryExpression.of(QueryField.NAME, "meier");
+    private static final QueryExpression MANAGER = QueryExpression.of(QueryField.ROLE, "manager");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand queryMeierCommand = new QueryCommand(MEIER, false);
+
+        // same object -> returns true
+        assertTrue(queryMeierCommand.equals(queryMeierCommand));
+
+        // same values -> returns true
+        assertTrue(queryMeierCommand.equals(new QueryCommand(QueryExpression.of(QueryField.NAME, "Meier"), false)));
+
+        // different types -> returns false
+        assertFalse(queryMeierCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(queryMeierCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(queryMeierCommand.equals(new QueryCommand(MANAGER, false)));
+
+        // explain -> returns false
+        assertFalse(queryMeierCommand.equals(new QueryCommand(MEIER, true)));
+    }
+
+    @Test
+    public void execute_query_personsFound() {
+        QueryExpression expression = MEIER.and(MANAGER.negate());
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(new QueryPredicate(expression));
+        assertCommandSuccess(new QueryCommand(expression, false), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_showsPlanWithoutFiltering() {
+        QueryExpression expression = MEIER.or(MANAGER);
+        String expectedMessage = String.format(QueryCommand.MESSAGE_EXPLAIN, expression, String.join("\n",
+                "Check the query on the candidates (est. 3 persons)",
+                "  OR (est. 3 persons)",
+                "    Index lookup name:meier (est. 2 persons)",
+                "    Index lookup role:manager (est. 1 persons)"));
+        assertCommandSuccess(new QueryCommand(expression, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryCommand queryCommand = new QueryCommand(MEIER, true);
+        String expected = QueryCommand.class.getCanonicalName() + "{expression=" + MEIER + ", isExplain=true}";
+        assertEquals(expected, queryCommand.toString());
+    }
+}
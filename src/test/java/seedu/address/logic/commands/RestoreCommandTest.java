@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BackupAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class RestoreCommandTest {
+
+    private static final String OLDER_BACKUP = "addressbook-20250101-000000-000.json";
+    private static final String NEWER_BACKUP = "addressbook-20250102-000000-000.json";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        model.setAddressBookBackups(new BackupAddressBookStorage(
+                new JsonAddressBookStorage(model.getAddressBookFilePath()), 3, 0, false));
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setAddressBookFilePath(model.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_noBackups_reportsNone() {
+        assertCommandSuccess(new RestoreCommand(), model, RestoreCommand.MESSAGE_NO_BACKUPS, expectedModel);
+    }
+
+    @Test
+    public void execute_list_newestFirst() throws Exception {
+        writeBackup(OLDER_BACKUP, new AddressBook());
+        writeBackup(NEWER_BACKUP, new AddressBook());
+
+        String expectedMessage = String.format(RestoreCommand.MESSAGE_LIST_BACKUPS,
+                "1. " + NEWER_BACKUP + "\n2. " + OLDER_BACKUP);
+        assertCommandSuccess(new RestoreCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_validIndex_addressBookRestored() throws Exception {
+        writeBackup(OLDER_BACKUP, new AddressBook());
+        writeBackup(NEWER_BACKUP, getTypicalAddressBook());
+        model.setAddressBook(new AddressBook(getTypicalAddressBook()));
+        expectedModel.setAddressBook(new AddressBook());
+
+        String expectedMessage = String.format(RestoreCommand.MESSAGE_SUCCESS, OLDER_BACKUP);
+        assertCommandSuccess(new RestoreCommand(INDEX_SECOND_PERSON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_indexOutOfRange_throwsCommandException() throws Exception {
+        writeBackup(OLDER_BACKUP, new AddressBook());
+
+        assertCommandFailure(new RestoreCommand(INDEX_SECOND_PERSON), model,
+                RestoreCommand.MESSAGE_INVALID_BACKUP_NUMBER);
+    }
+
+    @Test
+    public void execute_corruptedBackup_throwsCommandException() throws Exception {
+        Path backup = writeBackup(OLDER_BACKUP, new AddressBook());
+        Files.writeString(backup, "not json");
+
+        assertThrows(CommandException.class, () -> new RestoreCommand(INDEX_FIRST_PERSON).execute(model));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand listCommand = new RestoreCommand();
+        RestoreCommand restoreFirstCommand = new RestoreCommand(INDEX_FIRST_PERSON);
+
+        // same object -> returns true
+        assertTrue(restoreFirstCommand.equals(restoreFirstCommand));
+
+        // same values -> returns true
+        assertTrue(restoreFirstCommand.equals(new RestoreCommand(INDEX_FIRST_PERSON)));
+        assertTrue(listCommand.equals(new RestoreCommand()));
+
+        // different types -> returns false
+        assertFalse(restoreFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(restoreFirstCommand.equals(null));
+
+        // different backup -> returns false
+        assertFalse(restoreFirstCommand.equals(new RestoreCommand(INDEX_THIRD_PERSON)));
+        assertFalse(restoreFirstCommand.equals(listCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = RestoreCommand.class.getCanonicalName() + "{backupIndex=Optional.empty}";
+        assertEquals(expected, new RestoreCommand().toString());
+    }
+
+    private Path writeBackup(String fileName, ReadOnlyAddressBook addressBook) throws Exception {
+        Path backup = BackupAddressBookStorage.getBackupDirectory(model.getAddressBookFilePath()).resolve(fileName);
+        new JsonAddressBookStorage(backup).saveAddressBook(addressBook);
+        return backup;
+    }
+}
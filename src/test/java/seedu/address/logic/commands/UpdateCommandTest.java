@@ -110,6 +110,26 @@ public class UpdateCommandTest {
         assertCommandFailure(updateCommand, model, UpdateCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_duplicateEmailUnfilteredList_failure() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        UpdatePersonDescriptor descriptor = new UpdatePersonDescriptorBuilder()
+                .withEmail(firstPerson.getEmail().value).build();
+        UpdateCommand updateCommand = new UpdateCommand(INDEX_SECOND_PERSON, descriptor);
+
+        assertCommandFailure(updateCommand, model, UpdateCommand.MESSAGE_DUPLICATE_EMAIL);
+    }
+
+    @Test
+    public void execute_duplicatePhoneUnfilteredList_failure() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        UpdatePersonDescriptor descriptor = new UpdatePersonDescriptorBuilder()
+                .withPhone(firstPerson.getPhone().value).build();
+        UpdateCommand updateCommand = new UpdateCommand(INDEX_SECOND_PERSON, descriptor);
+
+        assertCommandFailure(updateCommand, model, UpdateCommand.MESSAGE_DUPLICATE_PHONE);
+    }
+
     //Invalid index
 
     @Test
@@ -195,4 +215,28 @@ public class UpdateCommandTest {
                 String.format(UpdateCommand.MESSAGE_UPDATE_PERSON_SUCCESS, Messages.format(expectedPerson)),
                 expectedModel);
     }
+
+    @Test
+    public void execute_overrideCategoryStoredInLowerCase_success() throws Exception {
+        // Data files may spell the type of a category in any case.
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person personToUpdate = new PersonBuilder(firstPerson)
+                .withCategories(List.of(new Category("team", "A"), new Category("role", "Engineer")))
+                .build();
+        model.setPerson(firstPerson, personToUpdate);
+
+        UpdatePersonDescriptor descriptor = new UpdatePersonDescriptor();
+        descriptor.setCategories(Set.of(new Category("Team", "B")));
+        UpdateCommand updateCommand = new UpdateCommand(INDEX_FIRST_PERSON, descriptor);
+
+        Person expectedPerson = new PersonBuilder(personToUpdate)
+                .withCategories(List.of(new Category("Team", "B"), new Category("role", "Engineer")))
+                .build();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(personToUpdate, expectedPerson);
+
+        assertCommandSuccess(updateCommand, model,
+                String.format(UpdateCommand.MESSAGE_UPDATE_PERSON_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+    }
 }
@@ -1,11 +1,16 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Skill;
 import seedu.address.model.person.predicate.PersonHasTagPredicate;
+import seedu.address.model.person.predicate.SkillExpression;
+import seedu.address.model.person.predicate.SkillExpressionPredicate;
 
 public class ListCommandParserTest {
 
@@ -28,4 +33,17 @@ public class ListCommandParserTest {
         ListCommand expected = new ListCommand(new PersonHasTagPredicate("java"));
         assertEquals(expected, parser.parse(" s/java "));
     }
+
+    @Test
+    public void parse_skillExpression_returnsExpressionFiltered() throws Exception {
+        ListCommand expected = new ListCommand(new SkillExpressionPredicate(
+                SkillExpression.of(new Skill("java")).and(SkillExpression.of(new Skill("sql")).negate())));
+        assertEquals(expected, parser.parse(" s/java AND NOT sql"));
+        assertEquals(expected, parser.parse(" s/java AND s/NOT sql"));
+    }
+
+    @Test
+    public void parse_malformedSkillExpression_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" s/java AND"));
+    }
 }
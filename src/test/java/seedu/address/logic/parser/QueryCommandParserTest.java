@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.predicate.QueryExpression;
+import seedu.address.model.person.predicate.QueryField;
+
+public class QueryCommandParserTest {
+
+    private static final QueryExpression JAVA_NOT_INTERN = QueryExpression.of(QueryField.SKILL, "java")
+            .and(QueryExpression.of(QueryField.ROLE, "intern").negate());
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " explain ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsQueryCommand() {
+        assertParseSuccess(parser, " skill:java AND NOT role:intern", new QueryCommand(JAVA_NOT_INTERN, false));
+        assertParseSuccess(parser, " explain  skill:java AND NOT role:intern", new QueryCommand(JAVA_NOT_INTERN, true));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, " explain skill:java AND",
+                String.format(QueryExpressionParser.MESSAGE_INVALID_QUERY, "skill:java AND"));
+    }
+}
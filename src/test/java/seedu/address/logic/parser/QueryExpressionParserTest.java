@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.predicate.QueryExpression;
+import seedu.address.model.person.predicate.QueryField;
+
+public class QueryExpressionParserTest {
+
+    private static final QueryExpression JAVA = QueryExpression.of(QueryField.SKILL, "java");
+    private static final QueryExpression ALPHA = QueryExpression.of(QueryField.TEAM, "alpha");
+    private static final QueryExpression ENG = QueryExpression.of(QueryField.DEPARTMENT, "eng");
+    private static final QueryExpression INTERN = QueryExpression.of(QueryField.ROLE, "intern");
+
+    @Test
+    public void parse_validQuery_followsPrecedence() throws Exception {
+        assertEquals(JAVA.and(ALPHA.or(ENG)).and(INTERN.negate()),
+                QueryExpressionParser.parse("skill:java AND (team:alpha OR dept:eng) AND NOT role:intern"));
+        assertEquals(JAVA.or(ALPHA.and(ENG)),
+                QueryExpressionParser.parse("SKILL:Java OR team:alpha AND department:eng"));
+        assertEquals(JAVA.or(ALPHA).negate(), QueryExpressionParser.parse("NOT(skill:java OR team:Alpha)"));
+    }
+
+    @Test
+    public void parse_multiWordValue_joinsWords() throws Exception {
+        assertEquals(QueryExpression.of(QueryField.NAME, "alex yeoh").and(JAVA),
+                QueryExpressionParser.parse("name:alex   yeoh AND skill: java"));
+        assertEquals(QueryExpression.of(QueryField.SKILL, "project management"),
+                QueryExpressionParser.parse("skill:project management"));
+        assertEquals(QueryExpression.of(QueryField.EMAIL, "alex@example.com")
+                        .or(QueryExpression.of(QueryField.PHONE, "98765432")),
+                QueryExpressionParser.parse("email:alex@example.com OR phone:98765432"));
+    }
+
+    @Test
+    public void parse_malformedQuery_throwsParseException() {
+        for (String input : List.of("", "java", "AND skill:java", "skill:java AND", "skill:java team:alpha",
+                "(skill:java", "skill:java)", "NOT", "skill:")) {
+            assertThrows(ParseException.class, () -> QueryExpressionParser.parse(input));
+        }
+    }
+
+    @Test
+    public void parse_invalidField_throwsParseException() {
+        String expectedMessage = String.format(QueryExpressionParser.MESSAGE_UNKNOWN_FIELD, "level");
+        assertThrows(ParseException.class, expectedMessage, () -> QueryExpressionParser.parse("level:senior"));
+        assertThrows(ParseException.class, () -> QueryExpressionParser.parse("skill:c++"));
+        assertThrows(ParseException.class, () -> QueryExpressionParser.parse("email:alex"));
+        assertThrows(ParseException.class, () -> QueryExpressionParser.parse("phone:call me"));
+        assertThrows(ParseException.class, () -> QueryExpressionParser.parse("team:a-team"));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
+import seedu.address.model.person.predicate.SkillExpression;
+import seedu.address.model.person.predicate.SkillExpressionPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class SkillExpressionParserTest {
+
+    private static final SkillExpression JAVA = SkillExpression.of(new Skill("java"));
+    private static final SkillExpression SQL = SkillExpression.of(new Skill("sql"));
+    private static final SkillExpression CSHARP = SkillExpression.of(new Skill("csharp"));
+
+    @Test
+    public void isExpression() {
+        assertFalse(SkillExpressionParser.isExpression("java"));
+        assertFalse(SkillExpressionParser.isExpression("project management"));
+        assertFalse(SkillExpressionParser.isExpression("java and sql")); // operators must be upper case
+        assertTrue(SkillExpressionParser.isExpression("java AND sql"));
+        assertTrue(SkillExpressionParser.isExpression("NOT java"));
+        assertTrue(SkillExpressionParser.isExpression("(java)"));
+    }
+
+    @Test
+    public void parse_validExpression_followsPrecedence() throws Exception {
+        assertEquals(JAVA.and(SQL).and(CSHARP.negate()),
+                SkillExpressionParser.parse("java AND sql AND NOT csharp"));
+        assertEquals(JAVA.or(SQL.and(CSHARP)), SkillExpressionParser.parse("Java OR sql AND csharp"));
+        assertEquals(JAVA.or(SQL).and(CSHARP), SkillExpressionParser.parse("(java OR sql) AND csharp"));
+        assertEquals(JAVA.or(SQL).negate(), SkillExpressionParser.parse("NOT(java OR sql)"));
+        assertEquals(SkillExpression.of(new Skill("project management")).and(JAVA),
+                SkillExpressionParser.parse("project   management AND java"));
+    }
+
+    @Test
+    public void parse_malformedExpression_throwsParseException() {
+        for (String input : List.of("", "AND java", "java AND", "java OR OR sql", "(java", "java)", "NOT")) {
+            assertThrows(ParseException.class, () -> SkillExpressionParser.parse(input));
+        }
+        assertThrows(ParseException.class, () -> SkillExpressionParser.parse("java AND c++"));
+    }
+
+    @Test
+    public void evaluate_onBitmaps_sameAsTestingEveryPerson() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        String[][] skillSets = {{"java", "sql"}, {"java", "csharp"}, {"sql"}, {"python"}, {}};
+        for (int i = 0; i < skillSets.length; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + (char) ('A' + i))
+                    .withPhone("9000000" + i).withEmail("person" + i + "@example.com")
+                    .withSkills(skillSets[i]).build());
+        }
+
+        for (String input : List.of("java AND NOT csharp", "NOT java", "sql OR python", "NOT (java OR sql)",
+                "rust OR NOT rust", "java AND rust")) {
+            SkillExpressionPredicate predicate = new SkillExpressionPredicate(SkillExpressionParser.parse(input));
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(predicate.getCandidates(addressBook).get()), input);
+        }
+    }
+}
@@ -5,19 +5,25 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
+import seedu.address.model.person.exceptions.DuplicateEmailException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicatePhoneException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -76,6 +82,85 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void countPersonsWithSkill_afterPersonLevelOperations_tracksSkillIndex() {
+        Skill java = new Skill("java");
+        Person javaAlice = new PersonBuilder(ALICE).withSkills("java").build();
+        Person javaBob = new PersonBuilder(BOB).withSkills("java", "sql").build();
+        addressBook.addPerson(javaAlice);
+        addressBook.addPerson(javaBob);
+        assertEquals(2, addressBook.countPersonsWithSkill(java));
+
+        addressBook.setPerson(javaAlice, ALICE);
+        assertEquals(1, addressBook.countPersonsWithSkill(java));
+        assertEquals(Set.of(javaBob), addressBook.getPersonsWithSkill(java));
+
+        addressBook.removePerson(new PersonBuilder(javaBob).build());
+        assertEquals(0, addressBook.countPersonsWithSkill(java));
+        assertEquals(0, addressBook.countPersonsWithSkill(new Skill("sql")));
+
+        addressBook.resetData(new AddressBookStub(List.of(javaAlice)));
+        assertEquals(Set.of(javaAlice), addressBook.getPersonsWithSkill(java));
+    }
+
+    @Test
+    public void addPerson_emailOrPhoneTaken_throwsDuplicateException() {
+        addressBook.addPerson(ALICE);
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        Person samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+
+        assertThrows(DuplicateEmailException.class, () -> addressBook.addPerson(sameEmail));
+        assertThrows(DuplicatePhoneException.class, () -> addressBook.addPerson(samePhone));
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void setPerson_emailOrPhoneChanges_tracksUniqueIndexes() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+        Person movedAlice = new PersonBuilder(ALICE).withEmail("alice.new@example.com").build();
+
+        addressBook.setPerson(ALICE, movedAlice);
+        assertEquals(Optional.of(movedAlice), addressBook.findPersonByEmail(movedAlice.getEmail()));
+        assertEquals(Optional.empty(), addressBook.findPersonByEmail(ALICE.getEmail()));
+        assertEquals(Optional.of(movedAlice), addressBook.findPersonByPhone(ALICE.getPhone()));
+
+        Person aliceWithBobPhone = new PersonBuilder(movedAlice).withPhone(BOB.getPhone().value).build();
+        assertThrows(DuplicatePhoneException.class, () -> addressBook.setPerson(movedAlice, aliceWithBobPhone));
+    }
+
+    @Test
+    public void resetData_withConflictingEmails_throwsDuplicateEmailException() {
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        AddressBookStub newData = new AddressBookStub(List.of(ALICE, sameEmail));
+
+        assertThrows(DuplicateEmailException.class, () -> addressBook.resetData(newData));
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void getVersion_personLevelOperations_incrementVersion() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonsWithSkill(new Skill("java"));
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.setPerson(ALICE, BOB);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(BOB);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
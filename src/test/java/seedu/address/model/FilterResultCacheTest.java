@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicate.PersonHasTagPredicate;
+
+public class FilterResultCacheTest {
+
+    private final FilterResultCache cache = new FilterResultCache(2);
+
+    @Test
+    public void get_equalPredicate_hit() {
+        cache.putIfAbsent(new PersonHasTagPredicate("java"), 1, () -> new int[] {0, 3});
+
+        assertArrayEquals(new int[] {0, 3}, cache.get(new PersonHasTagPredicate("JAVA"), 1).get());
+        assertFalse(cache.get(new PersonHasTagPredicate("python"), 1).isPresent());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_otherVersion_cacheInvalidated() {
+        cache.putIfAbsent(new PersonHasTagPredicate("java"), 1, () -> new int[] {0});
+
+        assertFalse(cache.get(new PersonHasTagPredicate("java"), 2).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void putIfAbsent_alreadyCached_notRecomputed() {
+        cache.putIfAbsent(new PersonHasTagPredicate("java"), 1, () -> new int[] {0});
+        cache.putIfAbsent(new PersonHasTagPredicate("java"), 1, () -> {
+            throw new AssertionError("Cached result recomputed");
+        });
+
+        assertArrayEquals(new int[] {0}, cache.get(new PersonHasTagPredicate("java"), 1).get());
+    }
+
+    @Test
+    public void putIfAbsent_overCapacity_leastRecentlyUsedEvicted() {
+        NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("Alice"));
+        cache.putIfAbsent(new PersonHasTagPredicate("java"), 1, () -> new int[] {0});
+        cache.putIfAbsent(alice, 1, () -> new int[] {1});
+        cache.get(new PersonHasTagPredicate("java"), 1);
+        cache.putIfAbsent(new PersonHasTagPredicate("python"), 1, () -> new int[] {2});
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(new PersonHasTagPredicate("java"), 1).isPresent());
+        assertFalse(cache.get(alice, 1).isPresent());
+    }
+}
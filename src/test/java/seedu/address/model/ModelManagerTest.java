@@ -7,16 +7,24 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
+import seedu.address.model.person.predicate.PersonHasTagPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +101,97 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_filtersUsingSkillIndex() {
+        Person javaAlice = new PersonBuilder(ALICE).withSkills("java").build();
+        modelManager.addPerson(javaAlice);
+        modelManager.addPerson(BENSON);
+
+        modelManager.updateFilteredPersonList(new PersonHasTagPredicate("JAVA"));
+        assertEquals(List.of(javaAlice), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.countPersonsWithSkill(new Skill("java")));
+
+        // the filter still holds for persons that change after it was applied
+        Person javaBenson = new PersonBuilder(BENSON).withSkills("java").build();
+        modelManager.setPerson(BENSON, javaBenson);
+        assertEquals(List.of(javaAlice, javaBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_filterApplied_filterKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson", "Hoon")));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(new PersonBuilder().withName("Carl Kurz").withEmail("carl@example.com")
+                .withPhone("95352563").build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_recentFilter_servedFromCache() {
+        Person javaAlice = new PersonBuilder(ALICE).withSkills("java").build();
+        modelManager.addPerson(javaAlice);
+        modelManager.addPerson(BENSON);
+        FilterResultCache cache = modelManager.getFilterResults();
+
+        modelManager.updateFilteredPersonList(new PersonHasTagPredicate("java"));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        long misses = cache.getMissCount();
+        modelManager.updateFilteredPersonList(new PersonHasTagPredicate("java"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(misses, cache.getMissCount());
+        assertEquals(List.of(javaAlice), modelManager.getFilteredPersonList());
+
+        // a change to the address book makes the cached results stale
+        Person javaBenson = new PersonBuilder(BENSON).withSkills("java").build();
+        modelManager.setPerson(BENSON, javaBenson);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(List.of(javaBenson), modelManager.getFilteredPersonList());
+
+        // but the filter that was shown during the change was kept up to date, so it is cached again
+        modelManager.updateFilteredPersonList(new PersonHasTagPredicate("java"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(List.of(javaAlice, javaBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_parallel_sameAsSequential() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.setParallelFilterThreshold(1);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // the filter is still kept up to date incrementally afterwards
+        Person bensonAlice = new PersonBuilder(ALICE).withName("Alice Benson").build();
+        modelManager.setPerson(ALICE, bensonAlice);
+        assertEquals(List.of(bensonAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void rankFilteredPersonList_bestMatchesFirstUntilFilterUpdated() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+
+        modelManager.rankFilteredPersonList("meier daniel", 10);
+        assertEquals(List.of(DANIEL, BENSON), modelManager.getFilteredPersonList());
+        modelManager.rankFilteredPersonList("meier daniel", 1);
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+
+        // persons added later are shown after the ranked persons if they match
+        modelManager.addPerson(HOON);
+        modelManager.addPerson(GEORGE);
+        assertEquals(List.of(DANIEL, HOON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE, BENSON, DANIEL, HOON, GEORGE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,34 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelFilterTest {
+
+    @Test
+    public void findMatches_severalChunks_sameAsSequentialScan() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ParallelFilter.CHUNK_SIZE * 3 + 5; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        Predicate<Person> predicate = person -> person.getName().fullName.endsWith("3");
+
+        int[] expected = IntStream.range(0, persons.size()).filter(i -> predicate.test(persons.get(i))).toArray();
+        assertArrayEquals(expected, ParallelFilter.findMatches(persons, predicate));
+    }
+
+    @Test
+    public void findMatches_emptyList_noMatches() {
+        assertEquals(0, ParallelFilter.findMatches(List.of(), person -> true).length);
+    }
+}
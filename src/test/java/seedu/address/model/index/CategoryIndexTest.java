@@ -0,0 +1,49 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Category;
+import seedu.address.model.tag.Category.CategoryType;
+import seedu.address.testutil.PersonBuilder;
+
+public class CategoryIndexTest {
+
+    private final CategoryIndex index = new CategoryIndex();
+    private final Person alice = new PersonBuilder().withName("Alice")
+            .withCategories(List.of(new Category("Team", "Alpha"), new Category("role", "Manager"))).build();
+    private final Person bob = new PersonBuilder().withName("Bob")
+            .withCategories(List.of(new Category("Team", "Alpha"))).build();
+
+    @Test
+    public void getMembers_addedPersons_groupedByTypeAndValue() {
+        index.add(alice);
+        index.add(bob);
+        assertEquals(Set.of(alice, bob), index.getMembers(CategoryType.TEAM, "Alpha"));
+        assertEquals(Set.of(alice), index.getMembers(CategoryType.ROLE, "Manager"));
+        assertTrue(index.getMembers(CategoryType.DEPARTMENT, "Alpha").isEmpty());
+    }
+
+    @Test
+    public void getGroups_afterRemove_dropsEmptyGroups() {
+        index.add(alice);
+        index.add(bob);
+        index.remove(alice);
+        assertEquals(Map.of("Alpha", Set.of(bob)), index.getGroups(CategoryType.TEAM));
+        assertTrue(index.getGroups(CategoryType.ROLE).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllGroups() {
+        index.add(alice);
+        index.clear();
+        assertTrue(index.getGroups(CategoryType.TEAM).isEmpty());
+    }
+}
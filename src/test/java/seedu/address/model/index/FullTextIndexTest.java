@@ -0,0 +1,154 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Category;
+import seedu.address.testutil.PersonBuilder;
+
+public class FullTextIndexTest {
+
+    private static final String QUERY = "backend java alpha";
+
+    private final FullTextIndex index = new FullTextIndex();
+    private final Person alice = createPerson("Alice Tan", "alice@example.com", "Alpha", null, "java", "backend");
+    private final Person bob = createPerson("Bob Lim", "bob@example.com", "Beta", null, "java");
+    private final Person carl = createPerson("Carl Ong", "carl@example.com", "Alpha", null, "python", "backend");
+    private final Person dan = createPerson("Dan Goh", "dan@example.com", "Alpha", "Engineering",
+            "java", "python", "backend", "sql", "docker");
+
+    private static Person createPerson(String name, String email, String team, String department,
+            String... skills) {
+        List<Category> categories = new ArrayList<>();
+        categories.add(new Category("Team", team));
+        if (department != null) {
+            categories.add(new Category("Department", department));
+        }
+        return new PersonBuilder().withName(name).withEmail(email).withCategories(categories).withSkills(skills)
+                .build();
+    }
+
+    private void addAll(Person... persons) {
+        for (Person person : persons) {
+            index.add(person);
+        }
+    }
+
+    @Test
+    public void getTerms_splitsAndFoldsCase() {
+        assertEquals(List.of("alex", "yeoh", "example", "com"),
+                List.copyOf(FullTextIndex.getTerms("  Alex YEOH, alex.yeoh@Example.com ")));
+        assertTrue(FullTextIndex.getTerms(" -- ").isEmpty());
+    }
+
+    @Test
+    public void search_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null, 1));
+    }
+
+    @Test
+    public void search_emptyIndex_returnsEmptyList() {
+        assertTrue(index.search(QUERY, 10).isEmpty());
+    }
+
+    @Test
+    public void search_moreMatchedTermsAndShorterPersonsFirst() {
+        addAll(bob, carl, dan, alice);
+
+        // Alice and Dan match all three terms, but Dan has more terms that do not match.
+        assertEquals(List.of(alice, dan, carl, bob), index.search(QUERY, 10));
+        assertEquals(List.of(alice, dan), index.search(QUERY, 2));
+        assertEquals(List.of(alice, dan, carl, bob), index.search("BACKEND, Java; alpha!", 10));
+    }
+
+    @Test
+    public void search_rareTermOutweighsCommonTerm() {
+        addAll(alice, bob, carl, dan);
+
+        // Dan has both skills. Python is rarer than Java, so Carl ranks above Bob and Alice,
+        // and Bob ranks above Alice with fewer terms.
+        assertEquals(List.of(dan, carl, bob, alice), index.search("python java", 10));
+    }
+
+    @Test
+    public void search_equalScores_inOrderAdded() {
+        Person alicia = createPerson("Alicia Tan", "alicia@example.com", "Alpha", null, "java", "backend");
+        addAll(alicia, alice);
+
+        assertEquals(List.of(alicia, alice), index.search("tan", 10));
+        assertEquals(List.of(alicia), index.search("tan", 1));
+    }
+
+    @Test
+    public void search_noMatchOrNoLimit_returnsEmptyList() {
+        addAll(alice, bob);
+
+        assertTrue(index.search("rust", 10).isEmpty());
+        assertTrue(index.search(QUERY, 0).isEmpty());
+    }
+
+    @Test
+    public void search_topResults_sameAsPrefixOfFullRanking() {
+        Random random = new Random(2103);
+        String[] words = {"java", "python", "sql", "backend", "frontend", "alpha", "beta", "gamma", "lead", "ops"};
+        for (int i = 0; i < 500; i++) {
+            index.add(createPerson("Person " + i, "person" + i + "@example.com", words[random.nextInt(words.length)],
+                    null, words[random.nextInt(5)], words[random.nextInt(words.length)]));
+        }
+
+        for (int run = 0; run < 20; run++) {
+            String query = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            List<Person> all = index.search(query, Integer.MAX_VALUE);
+            Set<String> terms = FullTextIndex.getTerms(query);
+            assertEquals(all.size(), all.stream()
+                    .filter(person -> !Collections.disjoint(FullTextIndex.countTerms(person).keySet(), terms))
+                    .count());
+            for (int limit : new int[] {1, 7, 50}) {
+                assertEquals(all.subList(0, Math.min(limit, all.size())), index.search(query, limit), query);
+            }
+        }
+    }
+
+    @Test
+    public void remove_manyPersons_sameAsIndexOfRemainingPersons() {
+        List<Person> persons = new ArrayList<>();
+        String[] skills = {"java", "python", "sql", "backend"};
+        for (int i = 0; i < 3000; i++) {
+            persons.add(createPerson("Person " + i, "person" + i + "@example.com", i % 2 == 0 ? "Alpha" : "Beta",
+                    null, skills[i % skills.length], skills[(i / 4) % skills.length]));
+        }
+        persons.forEach(index::add);
+
+        // Removing most persons makes the index number the remaining ones again.
+        List<Person> remaining = persons.stream().filter(person -> persons.indexOf(person) % 5 == 0)
+                .collect(Collectors.toList());
+        persons.stream().filter(person -> !remaining.contains(person)).forEach(index::remove);
+        FullTextIndex expected = new FullTextIndex();
+        remaining.forEach(expected::add);
+
+        for (String query : List.of(QUERY, "python", "person 15", "beta sql")) {
+            assertEquals(expected.search(query, 100), index.search(query, 100), query);
+        }
+    }
+
+    @Test
+    public void clear_forgetsEveryPerson() {
+        addAll(alice, bob);
+        index.clear();
+
+        assertTrue(index.search(QUERY, 10).isEmpty());
+        index.add(carl);
+        assertEquals(List.of(carl), index.search(QUERY, 10));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
+import seedu.address.testutil.PersonBuilder;
+
+public class InvertedIndexTest {
+
+    private static final Skill JAVA = new Skill("java");
+    private static final Skill SQL = new Skill("sql");
+
+    private final InvertedIndex<Skill> index = new InvertedIndex<>(Person::getSkills);
+    private final Person alice = new PersonBuilder().withName("Alice").withSkills("java", "sql").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withSkills("Java").build();
+
+    @Test
+    public void get_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.get(null));
+    }
+
+    @Test
+    public void get_unknownKey_returnsEmptySet() {
+        assertTrue(index.get(JAVA).isEmpty());
+        assertEquals(0, index.count(JAVA));
+    }
+
+    @Test
+    public void add_personsWithSharedKey_returnsAllPersons() {
+        index.add(alice);
+        index.add(bob);
+        assertEquals(Set.of(alice, bob), index.get(JAVA));
+        assertEquals(2, index.count(JAVA));
+        assertEquals(Set.of(alice), index.get(SQL));
+        assertEquals(Set.of(JAVA, SQL), index.keys());
+    }
+
+    @Test
+    public void remove_lastPersonWithKey_dropsKey() {
+        index.add(alice);
+        index.add(bob);
+        index.remove(alice);
+        assertEquals(Set.of(bob), index.get(JAVA));
+        assertEquals(0, index.count(SQL));
+        assertEquals(Set.of(JAVA), index.keys());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.add(alice);
+        index.clear();
+        assertTrue(index.keys().isEmpty());
+    }
+
+    @Test
+    public void get_modifyPostingList_throwsUnsupportedOperationException() {
+        index.add(alice);
+        assertThrows(UnsupportedOperationException.class, () -> index.get(JAVA).clear());
+    }
+}
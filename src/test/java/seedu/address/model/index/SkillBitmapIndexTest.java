@@ -0,0 +1,60 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Skill;
+import seedu.address.testutil.PersonBuilder;
+
+public class SkillBitmapIndexTest {
+
+    private static final Skill JAVA = new Skill("java");
+    private static final Skill SQL = new Skill("sql");
+
+    private final SkillBitmapIndex index = new SkillBitmapIndex();
+    private final Person alice = new PersonBuilder().withName("Alice").withSkills("java", "sql").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withSkills("java").build();
+    private final Person carl = new PersonBuilder().withName("Carl").withSkills("sql").build();
+
+    @Test
+    public void getBitmap_unknownSkill_returnsEmptyBitmap() {
+        index.add(alice);
+        assertTrue(index.getBitmap(new Skill("rust")).isEmpty());
+    }
+
+    @Test
+    public void getPersons_bitmapsOfSkills_returnsPersonsInOrdinalOrder() {
+        index.add(alice);
+        index.add(bob);
+        index.add(carl);
+        assertEquals(List.of(alice, bob), index.getPersons(index.getBitmap(JAVA)));
+        assertEquals(List.of(alice, carl), index.getPersons(index.getBitmap(SQL)));
+        assertEquals(List.of(alice, bob, carl), index.getPersons(index.getAll()));
+    }
+
+    @Test
+    public void remove_freedOrdinal_reusedByNextPerson() {
+        index.add(alice);
+        index.add(bob);
+        index.remove(alice);
+        assertEquals(List.of(bob), index.getPersons(index.getBitmap(JAVA)));
+        assertTrue(index.getBitmap(SQL).isEmpty());
+
+        index.add(carl);
+        assertEquals(List.of(carl, bob), index.getPersons(index.getAll()));
+        assertEquals(2, index.getAll().length());
+    }
+
+    @Test
+    public void getBitmap_modifyResult_doesNotChangeIndex() {
+        index.add(alice);
+        index.getBitmap(JAVA).clear();
+        index.getAll().clear();
+        assertEquals(List.of(alice), index.getPersons(index.getBitmap(JAVA)));
+    }
+}
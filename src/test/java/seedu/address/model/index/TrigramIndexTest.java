@@ -0,0 +1,60 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex(person -> person.getSkills().stream()
+            .map(skill -> skill.skillName)
+            .collect(Collectors.toList()));
+    private final Person alice = new PersonBuilder().withName("Alice").withSkills("javascript", "sql").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withSkills("java").build();
+
+    @Test
+    public void getContaining_nullNeedle_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getContaining(null));
+    }
+
+    @Test
+    public void getContaining_longNeedle_returnsPersonsWithSubstring() {
+        index.add(alice);
+        index.add(bob);
+        assertEquals(Set.of(alice, bob), index.getContaining("java"));
+        assertEquals(Set.of(alice), index.getContaining("script"));
+        assertTrue(index.getContaining("python").isEmpty());
+        // Every trigram of "avaj" is present, but not the substring itself
+        assertTrue(index.getContaining("vaja").isEmpty());
+    }
+
+    @Test
+    public void getContaining_shortNeedle_scansDistinctStrings() {
+        index.add(alice);
+        index.add(bob);
+        assertEquals(Set.of(alice), index.getContaining("sq"));
+        assertEquals(Set.of(alice, bob), index.getContaining("a"));
+        assertEquals(Set.of(alice, bob), index.getContaining(""));
+    }
+
+    @Test
+    public void remove_lastPersonWithString_dropsItsTrigrams() {
+        Person otherBob = new PersonBuilder(bob).withName("Bobby").build();
+        index.add(bob);
+        index.add(otherBob);
+        index.remove(bob);
+        assertEquals(Set.of(otherBob), index.getContaining("jav"));
+
+        index.remove(otherBob);
+        assertTrue(index.getContaining("jav").isEmpty());
+        assertTrue(index.getContaining("j").isEmpty());
+    }
+}
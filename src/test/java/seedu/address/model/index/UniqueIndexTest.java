@@ -0,0 +1,62 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class UniqueIndexTest {
+
+    private final UniqueIndex<String> index = new UniqueIndex<>(person -> person.getEmail().value);
+    private final Person alice = new PersonBuilder().withName("Alice").withEmail("alice@example.com").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withEmail("bob@example.com").build();
+
+    @Test
+    public void get_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.get(null));
+    }
+
+    @Test
+    public void get_addedKey_returnsPerson() {
+        index.add(alice);
+        index.add(bob);
+        assertEquals(Optional.of(alice), index.get("alice@example.com"));
+        assertEquals(Optional.empty(), index.get("carl@example.com"));
+    }
+
+    @Test
+    public void remove_keyTakenOverByAnotherPerson_keepsNewHolder() {
+        Person newAlice = new PersonBuilder(alice).withName("Alicia").build();
+        index.add(alice);
+        index.add(newAlice);
+        index.remove(alice);
+        assertEquals(Optional.of(newAlice), index.get("alice@example.com"));
+    }
+
+    @Test
+    public void isTakenByOther() {
+        index.add(alice);
+        Person otherAlice = new PersonBuilder(bob).withEmail("alice@example.com").build();
+
+        assertTrue(index.isTakenByOther(otherAlice, null));
+        assertTrue(index.isTakenByOther(otherAlice, bob));
+        assertFalse(index.isTakenByOther(otherAlice, alice));
+        assertFalse(index.isTakenByOther(bob, null));
+    }
+
+    @Test
+    public void hasConflictingKeys() {
+        Person otherAlice = new PersonBuilder(bob).withEmail("alice@example.com").build();
+        assertFalse(index.hasConflictingKeys(List.of(alice, bob)));
+        assertFalse(index.hasConflictingKeys(List.of(alice, new PersonBuilder(alice).build())));
+        assertTrue(index.hasConflictingKeys(List.of(alice, bob, otherAlice)));
+    }
+}
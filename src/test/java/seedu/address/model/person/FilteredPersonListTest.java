@@ -0,0 +1,207 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private static final Predicate<Person> IS_MEIER = person -> person.getName().fullName.endsWith("Meier");
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList();
+    private final List<String> changes = new ArrayList<>();
+    private FilteredPersonList filtered;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(ALICE, BENSON, CARL, DANIEL);
+        filtered = new FilteredPersonList(source, IS_MEIER);
+        filtered.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(describe(change));
+            }
+        });
+    }
+
+    @Test
+    public void constructor_showsMatchingPersons() {
+        assertEquals(List.of(BENSON, DANIEL), filtered);
+        assertEquals(1, filtered.getSourceIndex(0));
+        assertEquals(1, filtered.getViewIndex(3));
+        assertEquals(-1, filtered.getViewIndex(2));
+    }
+
+    @Test
+    public void set_shownPersonStillMatches_singleReplacement() {
+        Person editedBenson = new PersonBuilder(BENSON).withSkills("java").build();
+        source.set(1, editedBenson);
+
+        assertEquals(List.of(editedBenson, DANIEL), filtered);
+        assertEquals(List.of("replace 0 [" + BENSON.getName() + "]"), changes);
+    }
+
+    @Test
+    public void set_shownPersonNoLongerMatches_removedFromView() {
+        source.set(3, ELLE);
+
+        assertEquals(List.of(BENSON), filtered);
+        assertEquals(List.of("remove 1 [" + DANIEL.getName() + "]"), changes);
+    }
+
+    @Test
+    public void set_hiddenPersonNowMatches_addedToView() {
+        source.set(2, HOON);
+
+        assertEquals(List.of(BENSON, HOON, DANIEL), filtered);
+        assertEquals(List.of("add 1 1"), changes);
+    }
+
+    @Test
+    public void set_hiddenPersonStillHidden_noChange() {
+        source.set(0, ELLE);
+
+        assertEquals(List.of(BENSON, DANIEL), filtered);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void addAndRemove_onlyChangedPersonsTested() {
+        List<Person> tested = new ArrayList<>();
+        filtered.setPredicate(person -> tested.add(person) && IS_MEIER.test(person));
+        tested.clear();
+        changes.clear();
+
+        source.add(0, HOON);
+        source.remove(BENSON);
+        assertEquals(List.of(HOON), tested);
+        assertEquals(List.of(HOON, DANIEL), filtered);
+        assertEquals(List.of("add 0 1", "remove 1 [" + BENSON.getName() + "]"), changes);
+    }
+
+    @Test
+    public void setPredicate_onlyVisibilityChangesReported() {
+        filtered.setPredicate(person -> person.equals(ALICE) || person.equals(DANIEL));
+
+        // Alice is shown in the place of Benson, while Daniel is left alone
+        assertEquals(List.of(ALICE, DANIEL), filtered);
+        assertEquals(List.of("replace 0 [" + BENSON.getName() + "]"), changes);
+    }
+
+    @Test
+    public void setPredicate_sourcePositions_shownWithoutTesting() {
+        filtered.setPredicate(person -> {
+            throw new AssertionError("Person tested");
+        }, new int[] {0, 3});
+
+        assertEquals(List.of(ALICE, DANIEL), filtered);
+        assertArrayEquals(new int[] {0, 3}, filtered.getSourcePositions());
+    }
+
+    @Test
+    public void setPredicate_currentMatchesSomeOfPredicate_laterChangesTestedWithPredicate() {
+        filtered.setPredicate(IS_MEIER, person -> person == DANIEL);
+        assertEquals(List.of(DANIEL), filtered);
+
+        source.add(HOON);
+        assertEquals(List.of(DANIEL, HOON), filtered);
+    }
+
+    @Test
+    public void sort_permutationPassedOn() {
+        source.add(HOON);
+        changes.clear();
+        FXCollections.sort(source, Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+
+        assertEquals(List.of(HOON, DANIEL, BENSON), filtered);
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).startsWith("permute"));
+    }
+
+    @Test
+    public void randomChanges_matchesFilteringFromScratch() {
+        Random random = new Random(2103);
+        List<Person> mirror = new ArrayList<>(filtered);
+        filtered.addListener((ListChangeListener<Person>) change -> replay(change, mirror));
+
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(6);
+            int position = source.isEmpty() ? 0 : random.nextInt(source.size());
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), createPerson(random));
+            } else if (operation == 1) {
+                source.set(position, createPerson(random));
+            } else if (operation == 2) {
+                source.remove(position, Math.min(source.size(), position + 1 + random.nextInt(3)));
+            } else if (operation == 3) {
+                source.addAll(position, List.of(createPerson(random), createPerson(random), createPerson(random)));
+            } else if (operation == 4) {
+                FXCollections.shuffle(source, random);
+            } else {
+                int parity = random.nextInt(2);
+                filtered.setPredicate(person -> person.getName().fullName.length() % 2 == parity);
+            }
+
+            List<Person> expected = source.stream().filter(filtered.getPredicate()).collect(Collectors.toList());
+            assertEquals(expected, filtered);
+            assertEquals(expected, mirror);
+        }
+    }
+
+    private static Person createPerson(Random random) {
+        String name = "Person " + random.nextInt(1000);
+        return new PersonBuilder().withName(random.nextBoolean() ? name + " Meier" : name).build();
+    }
+
+    /**
+     * Applies {@code change} to {@code mirror}, which must hold the list as it was before the change.
+     */
+    private static void replay(ListChangeListener.Change<? extends Person> change, List<Person> mirror) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Person> moved = new ArrayList<>(mirror.subList(change.getFrom(), change.getTo()));
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    mirror.set(change.getPermutation(i), moved.get(i - change.getFrom()));
+                }
+            } else {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    private static String describe(ListChangeListener.Change<? extends Person> change) {
+        if (change.wasPermutated()) {
+            return "permute " + change.getFrom() + " " + change.getTo();
+        } else if (change.wasReplaced()) {
+            return "replace " + change.getFrom() + " " + names(change.getRemoved());
+        } else if (change.wasRemoved()) {
+            return "remove " + change.getFrom() + " " + names(change.getRemoved());
+        }
+        return "add " + change.getFrom() + " " + change.getAddedSize();
+    }
+
+    private static List<Name> names(List<? extends Person> persons) {
+        return persons.stream().map(Person::getName).collect(Collectors.toList());
+    }
+}
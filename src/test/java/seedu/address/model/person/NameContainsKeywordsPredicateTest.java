@@ -7,9 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +76,28 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").build()));
     }
 
+    @Test
+    public void getCandidates_validKeywords_returnsPersonsWithMatchingWord() {
+        Person alice = new PersonBuilder().withName("Alice Bob").withPhone("111").withEmail("a@example.com").build();
+        Person carol = new PersonBuilder().withName("carol").withPhone("222").withEmail("c@example.com").build();
+        Person bobby = new PersonBuilder().withName("Bobby").withPhone("333").withEmail("b@example.com").build();
+        AddressBook addressBook = new AddressBook();
+        List.of(alice, carol, bobby).forEach(addressBook::addPerson);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("BOB", "Carol"));
+        assertEquals(Set.of(alice, carol), Set.copyOf(predicate.getCandidates(addressBook).get()));
+
+        predicate = new NameContainsKeywordsPredicate(Collections.emptyList());
+        assertTrue(predicate.getCandidates(addressBook).get().isEmpty());
+    }
+
+    @Test
+    public void getCandidates_malformedKeyword_returnsEmpty() {
+        AddressBook addressBook = new AddressBook();
+        assertTrue(new NameContainsKeywordsPredicate(List.of(" ")).getCandidates(addressBook).isEmpty());
+        assertTrue(new NameContainsKeywordsPredicate(List.of("a b")).getCandidates(addressBook).isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
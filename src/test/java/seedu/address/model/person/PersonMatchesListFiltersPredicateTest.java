@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Category;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonMatchesListFiltersPredicateTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice").withPhone("111").withEmail("a@example.com")
+            .withSkills("javascript").withCategories(Arrays.asList(new Category("Team", "Alpha"))).build();
+    private final Person bob = new PersonBuilder().withName("Bob").withPhone("222").withEmail("b@example.com")
+            .withSkills("java", "sql").withCategories(Arrays.asList(new Category("Team", "Beta"))).build();
+    private final Person carl = new PersonBuilder().withName("Carl").withPhone("333").withEmail("c@example.com")
+            .withSkills("python").build();
+
+    @Test
+    public void test_substringMatch() {
+        PersonMatchesListFiltersPredicate predicate =
+                new PersonMatchesListFiltersPredicate(List.of("SCR"), List.of());
+        assertTrue(predicate.test(alice));
+        assertFalse(predicate.test(bob));
+
+        predicate = new PersonMatchesListFiltersPredicate(List.of("jav"), List.of("beta"));
+        assertFalse(predicate.test(alice));
+        assertTrue(predicate.test(bob));
+    }
+
+    @Test
+    public void getCandidates_sameAsScanningEveryPerson() {
+        AddressBook addressBook = new AddressBook();
+        List.of(alice, bob, carl).forEach(addressBook::addPerson);
+
+        List<PersonMatchesListFiltersPredicate> predicates = List.of(
+                new PersonMatchesListFiltersPredicate(List.of("scr"), List.of()),
+                new PersonMatchesListFiltersPredicate(List.of("ja", "pyth"), List.of()),
+                new PersonMatchesListFiltersPredicate(List.of(), List.of("alpha")),
+                new PersonMatchesListFiltersPredicate(List.of("java"), List.of("team")),
+                new PersonMatchesListFiltersPredicate(List.of("rust"), List.of("team")));
+        for (PersonMatchesListFiltersPredicate predicate : predicates) {
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(predicate.getCandidates(addressBook).get()), predicate.toString());
+        }
+    }
+
+    @Test
+    public void getCandidates_noFilters_returnsEmpty() {
+        PersonMatchesListFiltersPredicate predicate = new PersonMatchesListFiltersPredicate(List.of(), List.of());
+        assertTrue(predicate.getCandidates(new AddressBook()).isEmpty());
+    }
+}
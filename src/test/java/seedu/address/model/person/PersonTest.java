@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -10,8 +11,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Arrays;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Category;
+import seedu.address.model.tag.Category.CategoryType;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -80,6 +86,40 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice)); */
     }
 
+    @Test
+    public void constructor_equalSkills_shareCanonicalInstance() {
+        Person alice = new PersonBuilder().withName("Alice").withSkills("Java").build();
+        Person bob = new PersonBuilder().withName("Bob").withSkills("java").build();
+        assertSame(alice.getSkills().iterator().next(), bob.getSkills().iterator().next());
+    }
+
+    @Test
+    public void constructor_twoCategoriesOfSameType_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonBuilder()
+                .withCategories(Arrays.asList(new Category("Team", "Alpha"), new Category("Team", "Beta"))).build());
+    }
+
+    @Test
+    public void getCategoriesAndSkills_compactLayout_behaveAsSets() {
+        Category team = new Category("Team", "Alpha");
+        Category role = new Category("Role", "Manager");
+        Person person = new PersonBuilder().withCategories(Arrays.asList(team, role))
+                .withSkills("sql", "Java").build();
+
+        assertEquals(Set.of(team, role), person.getCategories());
+        assertEquals(Set.of(new Skill("java"), new Skill("sql")), person.getSkills());
+        assertTrue(person.getSkills().contains(new Skill("JAVA")));
+        assertFalse(person.getSkills().contains(new Skill("an unknown skill")));
+        assertFalse(person.getCategories().contains(new Category("Team", "Beta")));
+        assertEquals(team, person.getCategory(CategoryType.TEAM));
+        assertEquals(null, person.getCategory(CategoryType.DEPARTMENT));
+
+        Person samePerson = new PersonBuilder().withCategories(Arrays.asList(role, team))
+                .withSkills("java", "sql").build();
+        assertEquals(person, samePerson);
+        assertEquals(person.hashCode(), samePerson.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
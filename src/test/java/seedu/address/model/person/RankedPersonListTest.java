@@ -0,0 +1,131 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class RankedPersonListTest {
+
+    private static final Comparator<Person> BY_NAME_DESCENDING =
+            Comparator.comparing((Person person) -> person.getName().fullName).reversed();
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList();
+    private final List<String> changes = new ArrayList<>();
+    private RankedPersonList ranked;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(ALICE, BENSON, CARL, DANIEL);
+        ranked = new RankedPersonList(source);
+        ranked.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.wasPermutated() ? "permute" : change.wasReplaced() ? "replace"
+                        : change.wasRemoved() ? "remove" : "add");
+            }
+        });
+    }
+
+    @Test
+    public void noOrder_changesPassedOn() {
+        source.add(1, HOON);
+        source.remove(CARL);
+
+        assertEquals(List.of(ALICE, HOON, BENSON, DANIEL), ranked);
+        assertEquals(List.of("add", "remove"), changes);
+    }
+
+    @Test
+    public void setOrder_sortedByPermutation() {
+        ranked.setOrder(BY_NAME_DESCENDING);
+
+        assertEquals(List.of(DANIEL, CARL, BENSON, ALICE), ranked);
+        assertEquals(3, ranked.getSourceIndex(0));
+        assertEquals(0, ranked.getViewIndex(3));
+        assertEquals(List.of("permute"), changes);
+
+        ranked.setOrder(null);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), ranked);
+        assertEquals(List.of("permute", "permute"), changes);
+    }
+
+    @Test
+    public void sourceChangedWhileOrdered_sortedAgain() {
+        ranked.setOrder(BY_NAME_DESCENDING);
+        changes.clear();
+        source.add(HOON);
+
+        assertEquals(List.of(HOON, DANIEL, CARL, BENSON, ALICE), ranked);
+        assertEquals(List.of("replace"), changes);
+    }
+
+    @Test
+    public void randomChanges_matchesSortingFromScratch() {
+        Random random = new Random(2103);
+        List<Person> mirror = new ArrayList<>(ranked);
+        ranked.addListener((ListChangeListener<Person>) change -> replay(change, mirror));
+
+        for (int step = 0; step < 1000; step++) {
+            int operation = random.nextInt(6);
+            int position = source.isEmpty() ? 0 : random.nextInt(source.size());
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), createPerson(random));
+            } else if (operation == 1) {
+                source.set(position, createPerson(random));
+            } else if (operation == 2) {
+                source.remove(position, Math.min(source.size(), position + 1 + random.nextInt(3)));
+            } else if (operation == 3) {
+                FXCollections.shuffle(source, random);
+            } else {
+                ranked.setOrder(random.nextBoolean() ? null : BY_NAME_DESCENDING);
+            }
+
+            List<Person> expected = new ArrayList<>(source);
+            if (ranked.getOrder() != null) {
+                expected.sort(ranked.getOrder());
+            }
+            assertEquals(expected, ranked);
+            assertEquals(expected, mirror);
+        }
+    }
+
+    private static Person createPerson(Random random) {
+        return new PersonBuilder().withName("Person " + random.nextInt(1000)).build();
+    }
+
+    /**
+     * Applies {@code change} to {@code mirror}, which must hold the list as it was before the change,
+     * checking that the persons reported as removed are the ones removed.
+     */
+    private static void replay(ListChangeListener.Change<? extends Person> change, List<Person> mirror) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Person> moved = new ArrayList<>(mirror.subList(change.getFrom(), change.getTo()));
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    mirror.set(change.getPermutation(i), moved.get(i - change.getFrom()));
+                }
+            } else {
+                List<Person> removed = mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                assertEquals(removed, change.getRemoved().stream().collect(Collectors.toList()));
+                removed.clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
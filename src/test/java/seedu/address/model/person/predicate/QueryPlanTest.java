@@ -0,0 +1,120 @@
+package seedu.address.model.person.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Category;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlanTest {
+
+    private static final QueryExpression JAVA = QueryExpression.of(QueryField.SKILL, "java");
+    private static final QueryExpression ALPHA = QueryExpression.of(QueryField.TEAM, "alpha");
+    private static final QueryExpression ENG = QueryExpression.of(QueryField.DEPARTMENT, "eng");
+    private static final QueryExpression INTERN = QueryExpression.of(QueryField.ROLE, "intern");
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        addPerson("Amy Lee", "Alpha", "Engineering", "Intern", "java");
+        addPerson("Ben Tan", "Alpha", "Engineering", "Developer", "java");
+        addPerson("Cat Ong", "Beta", "Engineering", null, "java", "sql");
+        addPerson("Dan Lim", "Alpha", "Sales", null, "sql");
+        addPerson("Eve Goh", "Gamma", null, "Intern", "python");
+        addPerson("Fay Ng", "Beta", "Engineers Guild", "Manager", "java");
+    }
+
+    private void addPerson(String name, String team, String department, String role, String... skills) {
+        List<Category> categories = new ArrayList<>();
+        categories.add(new Category("Team", team));
+        if (department != null) {
+            categories.add(new Category("Department", department));
+        }
+        if (role != null) {
+            categories.add(new Category("Role", role));
+        }
+        int id = addressBook.getPersonList().size();
+        addressBook.addPerson(new PersonBuilder().withName(name).withPhone("9000000" + id)
+                .withEmail("person" + id + "@example.com").withCategories(categories).withSkills(skills).build());
+    }
+
+    @Test
+    public void plan_and_startsFromMostSelectiveIndex() {
+        QueryPlan plan = JAVA.and(ALPHA).plan(addressBook);
+
+        assertTrue(plan.isIndexed());
+        assertEquals(3, plan.getEstimate());
+        assertEquals(String.join("\n",
+                "Check the query on the candidates (est. 3 persons)",
+                "  AND (est. 3 persons)",
+                "    Index lookup skill:java (est. 4 persons)",
+                "    Index lookup team:alpha (est. 3 persons) <- most selective"), plan.explain());
+    }
+
+    @Test
+    public void plan_notAndOr_verifiedOnIndexedCandidates() {
+        QueryPlan plan = JAVA.and(ALPHA.or(ENG)).and(INTERN.negate()).plan(addressBook);
+
+        // Both department values starting with "eng" are looked up, so the OR is estimated at 3 + 4.
+        assertEquals(String.join("\n",
+                "Check the query on the candidates (est. 4 persons)",
+                "  AND (est. 4 persons)",
+                "    Index lookup skill:java (est. 4 persons) <- most selective",
+                "    OR (est. 7 persons)",
+                "      Index lookup team:alpha (est. 3 persons)",
+                "      Index lookup dept:eng (est. 4 persons)",
+                "    NOT (no index)",
+                "      Index lookup role:intern (est. 2 persons)"), plan.explain());
+    }
+
+    @Test
+    public void plan_orWithNot_checksEveryPerson() {
+        QueryPlan plan = ALPHA.or(INTERN.negate()).plan(addressBook);
+
+        assertFalse(plan.isIndexed());
+        assertFalse(plan.getCandidates().isPresent());
+        assertEquals(6, plan.getEstimate());
+        assertTrue(plan.explain().startsWith("Check the query on every person (est. 6 persons)\n  OR (no index)"));
+    }
+
+    @Test
+    public void getCandidates_includeEveryMatch() {
+        List<QueryExpression> expressions = List.of(JAVA, ALPHA.and(ENG), JAVA.and(ALPHA.or(ENG)).and(INTERN.negate()),
+                ENG.or(QueryExpression.of(QueryField.NAME, "eve")), QueryExpression.of(QueryField.NAME, "ben tan"),
+                QueryExpression.of(QueryField.EMAIL, "person3@example.com").or(INTERN),
+                QueryExpression.of(QueryField.PHONE, "90000004"), QueryExpression.of(QueryField.SKILL, "rust"));
+        for (QueryExpression expression : expressions) {
+            QueryPredicate predicate = new QueryPredicate(expression);
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            Set<Person> candidates = Set.copyOf(predicate.getCandidates(addressBook).get());
+            assertTrue(candidates.containsAll(expected), expression.toString());
+            assertEquals(expected, candidates.stream().filter(predicate).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void matches_termsIgnoreCaseExceptEmailAndPhone() {
+        Person amy = addressBook.getPersonList().get(0);
+        assertTrue(QueryExpression.of(QueryField.NAME, "LEE amy").matches(amy));
+        assertFalse(QueryExpression.of(QueryField.NAME, "le").matches(amy));
+        assertTrue(QueryExpression.of(QueryField.SKILL, "Java").matches(amy));
+        assertTrue(QueryExpression.of(QueryField.TEAM, "ALP").matches(amy));
+        assertFalse(QueryExpression.of(QueryField.TEAM, "lpha").matches(amy));
+        assertTrue(QueryExpression.of(QueryField.EMAIL, "person0@example.com").matches(amy));
+        assertFalse(QueryExpression.of(QueryField.EMAIL, "Person0@example.com").matches(amy));
+    }
+}
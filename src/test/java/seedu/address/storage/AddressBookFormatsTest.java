@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_byExtension_matchingStorage() {
+        assertTrue(AddressBookFormats.open(testFolder.resolve("a.bin")) instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookFormats.open(testFolder.resolve("a.json")) instanceof JournalingAddressBookStorage);
+        assertTrue(AddressBookFormats.open(testFolder.resolve("a.segments")) instanceof SegmentedAddressBookStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path json = testFolder.resolve("addressBook.json");
+        Path binary = testFolder.resolve("addressBook.bin");
+        Path jsonAgain = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(json).saveAddressBook(original);
+
+        AddressBookFormats.convert(json, binary);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binary).readAddressBook().get()));
+
+        AddressBookFormats.convert(binary, jsonAgain);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonAgain).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsIoException() {
+        assertThrows(IOException.class, () -> AddressBookFormats.convert(testFolder.resolve("missing.json"),
+                testFolder.resolve("addressBook.bin")));
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config.SavePolicy;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<List<?>> saves = new CopyOnWriteArrayList<>();
+    private final AtomicInteger syncs = new AtomicInteger();
+
+    @Test
+    public void submit_onExitPolicy_writesOnlyOnFlush() throws Exception {
+        BackgroundAddressBookWriter writer =
+                new BackgroundAddressBookWriter(new RecordingStorage(), SavePolicy.ON_EXIT, 0);
+        writer.submit(getTypicalAddressBook());
+        writer.submit(getTypicalAddressBook());
+        assertTrue(saves.isEmpty());
+
+        writer.close();
+        assertEquals(1, saves.size());
+    }
+
+    @Test
+    public void submit_editAfterSubmit_writesSnapshot() throws Exception {
+        BackgroundAddressBookWriter writer =
+                new BackgroundAddressBookWriter(new RecordingStorage(), SavePolicy.ON_EXIT, 0);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        writer.submit(addressBook);
+        addressBook.addPerson(BENSON);
+
+        writer.close();
+        assertEquals(List.of(ALICE), saves.get(0));
+    }
+
+    @Test
+    public void submit_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        RecordingStorage storage = new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        BackgroundAddressBookWriter writer = new BackgroundAddressBookWriter(storage, SavePolicy.EVERY_COMMAND, 0);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        writer.submit(addressBook);
+        assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+        addressBook.addPerson(BENSON);
+        writer.submit(addressBook);
+        addressBook.addPerson(CARL);
+        writer.submit(addressBook);
+        releaseWrite.countDown();
+
+        writer.close();
+        assertEquals(List.of(List.of(ALICE), List.of(ALICE, BENSON, CARL)), saves);
+    }
+
+    @Test
+    public void flush_writeFails_failureKeptAndSnapshotRetried() throws Exception {
+        IOException ioException = new IOException("disk full");
+        RecordingStorage storage = new RecordingStorage() {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw ioException;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        BackgroundAddressBookWriter writer = new BackgroundAddressBookWriter(storage, SavePolicy.ON_EXIT, 0);
+        writer.submit(getTypicalAddressBook());
+
+        assertThrows(IOException.class, ioException.getMessage(), writer::flush);
+        assertSame(ioException, writer.takeFailure().get());
+        assertFalse(writer.takeFailure().isPresent());
+
+        writer.close();
+        assertEquals(1, saves.size());
+    }
+
+    @Test
+    public void submit_syncIntervalNotReached_syncedOnlyOnClose() throws Exception {
+        BackgroundAddressBookWriter writer =
+                new BackgroundAddressBookWriter(new RecordingStorage(), SavePolicy.EVERY_COMMAND, 0, 60_000);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        writer.submit(addressBook);
+        addressBook.addPerson(BENSON);
+        writer.submit(addressBook);
+
+        writer.close();
+        assertEquals(List.of(ALICE, BENSON), saves.get(saves.size() - 1));
+        assertEquals(1, syncs.get());
+    }
+
+    @Test
+    public void submit_noSyncInterval_syncedAfterEveryWrite() throws Exception {
+        BackgroundAddressBookWriter writer =
+                new BackgroundAddressBookWriter(new RecordingStorage(), SavePolicy.ON_EXIT, 0);
+        writer.submit(getTypicalAddressBook());
+        writer.flush();
+        writer.submit(getTypicalAddressBook());
+        writer.flush();
+
+        assertEquals(2, saves.size());
+        assertEquals(2, syncs.get());
+        writer.close();
+    }
+
+    /**
+     * Records the persons of every address book saved, and counts the syncs.
+     */
+    private class RecordingStorage extends JsonAddressBookStorage {
+        RecordingStorage() {
+            super(testFolder.resolve("addressBook.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saves.add(List.copyOf(addressBook.getPersonList()));
+        }
+
+        @Override
+        public void sync() {
+            syncs.incrementAndGet();
+        }
+    }
+}
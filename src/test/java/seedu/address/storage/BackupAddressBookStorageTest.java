@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class BackupAddressBookStorageTest {
+
+    private static final long INTERVAL_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private TestClock clock;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        clock = new TestClock(Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_backedUp() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        createStorage(3).saveAddressBook(original);
+
+        List<Path> backups = BackupAddressBookStorage.listBackupFiles(filePath);
+        assertEquals(List.of(BackupAddressBookStorage.getBackupDirectory(filePath)
+                .resolve("addressbook-20250101-000000-000.json")), backups);
+        assertEquals(original, new AddressBook(BackupAddressBookStorage.readBackupFile(backups.get(0))));
+    }
+
+    @Test
+    public void saveAddressBook_withinInterval_notBackedUp() throws Exception {
+        BackupAddressBookStorage storage = createStorage(3);
+        storage.saveAddressBook(getTypicalAddressBook());
+        clock.advance(Duration.ofMillis(INTERVAL_MILLIS - 1));
+        storage.saveAddressBook(new AddressBook());
+
+        assertEquals(1, BackupAddressBookStorage.listBackupFiles(filePath).size());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_moreBackupsThanCount_newestKept() throws Exception {
+        BackupAddressBookStorage storage = createStorage(2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        clock.advance(Duration.ofMillis(INTERVAL_MILLIS));
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        clock.advance(Duration.ofMillis(INTERVAL_MILLIS));
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        List<Path> backups = BackupAddressBookStorage.listBackupFiles(filePath);
+        assertEquals(2, backups.size());
+        assertTrue(backups.get(0).getFileName().toString().endsWith("000200-000.json"));
+        assertTrue(backups.get(1).getFileName().toString().endsWith("000100-000.json"));
+        assertEquals(addressBook, new AddressBook(BackupAddressBookStorage.readBackupFile(backups.get(0))));
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_notBackedUp() throws Exception {
+        createStorage(3).saveAddressBook(getTypicalAddressBook(), testFolder.resolve("other.json"));
+
+        assertTrue(BackupAddressBookStorage.listBackupFiles(filePath).isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readBack() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BackupAddressBookStorage(new JsonAddressBookStorage(filePath), 1, INTERVAL_MILLIS, true, clock)
+                .saveAddressBook(original);
+
+        Path backup = BackupAddressBookStorage.listBackupFiles(filePath).get(0);
+        assertEquals(0x78, Files.readAllBytes(backup)[0]);
+        assertEquals(original, new AddressBook(BackupAddressBookStorage.readBackupFile(backup)));
+    }
+
+    @Test
+    public void readBackup_byName_onlyBackupsRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BackupAddressBookStorage storage = createStorage(3);
+        storage.saveAddressBook(original);
+
+        assertEquals(List.of("addressbook-20250101-000000-000.json"), storage.listBackups());
+        assertEquals(original, new AddressBook(storage.readBackup("addressbook-20250101-000000-000.json")));
+        assertThrows(DataLoadingException.class, () -> storage.readBackup("../addressbook.json"));
+        assertThrows(DataLoadingException.class, () -> storage.readBackup("addressbook-/../../other.json"));
+    }
+
+    @Test
+    public void listBackups_noBackupFolder_emptyList() throws Exception {
+        assertTrue(BackupAddressBookStorage.listBackupFiles(filePath).isEmpty());
+    }
+
+    private BackupAddressBookStorage createStorage(int backupCount) {
+        return new BackupAddressBookStorage(new JsonAddressBookStorage(filePath), backupCount, INTERVAL_MILLIS,
+                false, clock);
+    }
+
+    /**
+     * A clock in UTC that only moves when advanced.
+     */
+    private static class TestClock extends Clock {
+        private Instant instant;
+
+        TestClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
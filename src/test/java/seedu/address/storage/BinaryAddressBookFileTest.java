@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void get_inAnyOrder_decodesEachPerson() throws Exception {
+        Path filePath = save(getTypicalAddressBook());
+        try (BinaryAddressBookFile file = BinaryAddressBookFile.open(filePath)) {
+            assertEquals(getTypicalPersons().size(), file.size());
+            assertEquals(BENSON, file.get(1));
+            assertEquals(ALICE, file.get(0));
+        }
+    }
+
+    @Test
+    public void get_whileDecodingAhead_samePersons() throws Exception {
+        Path filePath = save(getTypicalAddressBook());
+        try (BinaryAddressBookFile file = BinaryAddressBookFile.open(filePath)) {
+            file.decodeAheadInBackground();
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < file.size(); i++) {
+                persons.add(file.get(i));
+            }
+            assertEquals(getTypicalPersons(), persons);
+        }
+    }
+
+    @Test
+    public void get_invalidRecord_onlyThatRecordFails() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Path filePath = save(addressBook);
+
+        // Replace a letter of Benson's name with a character names cannot contain, keeping the checksum valid
+        byte[] bytes = Files.readAllBytes(filePath);
+        int nameStart = new String(bytes, StandardCharsets.ISO_8859_1).indexOf(BENSON.getName().fullName);
+        bytes[nameStart] = '#';
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - Long.BYTES);
+        ByteBuffer.wrap(bytes).putLong(bytes.length - Long.BYTES, crc.getValue());
+        Files.write(filePath, bytes);
+
+        try (BinaryAddressBookFile file = BinaryAddressBookFile.open(filePath)) {
+            assertEquals(ALICE, file.get(0));
+            assertThrows(IllegalValueException.class, () -> file.get(1));
+        }
+    }
+
+    private Path save(AddressBook addressBook) throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        return filePath;
+    }
+}
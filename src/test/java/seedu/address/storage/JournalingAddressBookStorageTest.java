@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalPath = JournalingAddressBookStorage.getJournalPath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalingAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(HOON, new PersonBuilder(HOON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original); // unchanged, so nothing is appended
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournalingAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournalingAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, new AddressBook(new JournalingAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPassesThreshold_compacted() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original); // below the threshold, so appended
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // As if a compaction was interrupted after writing the snapshot
+        original.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JournalingAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"index\":0,\"rem".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournalingAddressBookStorage reopened = new JournalingAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // The torn entry is dropped by compacting before the next change is recorded
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, new AddressBook(new JournalingAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_entryOutOfRange_throwsDataLoadingException() throws Exception {
+        new JournalingAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, List.of("{\"index\":100,\"removed\":1,\"added\":[]}"), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalingAddressBookStorage(filePath).readAddressBook());
+    }
+}
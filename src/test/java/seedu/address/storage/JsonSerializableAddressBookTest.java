@@ -20,6 +20,8 @@ public class JsonSerializableAddressBookTest {
             TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE =
             TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_EMAIL_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateEmailAddressBook.json");
 
     // @Test
     // public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -49,5 +51,14 @@ public class JsonSerializableAddressBookTest {
                 JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
                 dataFromFile::toModelType);
     }
-}
 
+    @Test
+    public void toModelType_duplicateEmails_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil
+                .readJsonFile(DUPLICATE_EMAIL_FILE, JsonSerializableAddressBook.class)
+                .orElseThrow(() -> new AssertionError("Missing test data: " + DUPLICATE_EMAIL_FILE));
+        assertThrows(IllegalValueException.class,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMAIL,
+                dataFromFile::toModelType);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonLoaderTest {
+
+    private static final int SIZE = 5 * ParallelPersonLoader.CHUNK_SIZE;
+
+    @Test
+    public void load_manyChunks_sameAsAddingInOrder() throws Exception {
+        List<Person> persons = createPersons(SIZE);
+
+        AddressBook expected = new AddressBook();
+        persons.forEach(expected::addPerson);
+        assertEquals(expected, ParallelPersonLoader.load(persons));
+    }
+
+    @Test
+    public void load_invalidRecords_firstInvalidRecordReported() {
+        assertThrows(IllegalValueException.class, String.valueOf(SIZE / 2), () ->
+                ParallelPersonLoader.load(createRecords(), i -> {
+                    if (i == SIZE - 1 || i == SIZE / 2) {
+                        throw new IllegalValueException(String.valueOf(i));
+                    }
+                    return createPerson(i);
+                }));
+    }
+
+    @Test
+    public void load_clashBeforeInvalidRecord_clashReported() {
+        List<Person> persons = createPersons(SIZE);
+        persons.set(SIZE - 2, new PersonBuilder(persons.get(SIZE - 2)).withPhone("80000007").build());
+        persons.set(SIZE / 2, new PersonBuilder(persons.get(SIZE / 2)).withEmail("person3@example.com").build());
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMAIL, () ->
+                ParallelPersonLoader.load(persons));
+
+        persons.set(SIZE / 4, null); // converted into an invalid record below
+        assertThrows(IllegalValueException.class, "invalid", () ->
+                ParallelPersonLoader.load(persons, person -> {
+                    if (person == null) {
+                        throw new IllegalValueException("invalid");
+                    }
+                    return person;
+                }));
+    }
+
+    @Test
+    public void convert_invalidRecords_firstInvalidRecordReported() {
+        assertThrows(IllegalValueException.class, "700", () ->
+                ParallelPersonLoader.convert(createRecords(), i -> {
+                    if (i % 700 == 0 && i > 0) {
+                        throw new IllegalValueException(String.valueOf(i));
+                    }
+                    return createPerson(i);
+                }));
+    }
+
+    @Test
+    public void pipeline_recordsAdded_chunksConvertedBeforeEnd() throws Exception {
+        AtomicInteger convertedCount = new AtomicInteger();
+        ParallelPersonLoader.Pipeline<Integer> pipeline = new ParallelPersonLoader.Pipeline<>(i -> {
+            convertedCount.incrementAndGet();
+            return createPerson(i);
+        }, true);
+        // One more chunk than can be in flight, so that adding them must wait for the first.
+        int count = (ForkJoinPool.getCommonPoolParallelism() + 2) * ParallelPersonLoader.CHUNK_SIZE;
+        for (int i = 0; i < count; i++) {
+            pipeline.add(i);
+        }
+        assertTrue(convertedCount.get() >= ParallelPersonLoader.CHUNK_SIZE);
+
+        AddressBook addressBook = pipeline.toAddressBook();
+        assertEquals(count, addressBook.getPersonList().size());
+        assertEquals(createPerson(count - 1), addressBook.getPersonList().get(count - 1));
+    }
+
+    private static List<Integer> createRecords() {
+        List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            records.add(i);
+        }
+        return records;
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(createPerson(i));
+        }
+        return persons;
+    }
+
+    private static Person createPerson(int i) {
+        return new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                .withEmail("person" + i + "@example.com").build();
+    }
+}
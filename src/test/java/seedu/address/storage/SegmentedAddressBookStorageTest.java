@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.segments");
+        directory = SegmentedAddressBookStorage.getSegmentsDirectory(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_splitIntoSegments() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        createStorage().saveAddressBook(original);
+
+        assertEquals(4, listSegments().size()); // 7 persons
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_onlyItsSegmentRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Set<String> before = listSegments();
+
+        original.setPerson(ELLE, new PersonBuilder(ELLE).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        assertEquals(1, changedSegments(before, listSegments()));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_addAndDelete_touchedSegmentsRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Set<String> before = listSegments();
+        original.addPerson(HOON); // joins the last segment, which has room for one more
+        storage.saveAddressBook(original);
+        assertEquals(1, changedSegments(before, listSegments()));
+
+        before = listSegments();
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(1, changedSegments(before, listSegments()));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesIncrementally() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Set<String> before = listSegments();
+        storage.saveAddressBook(readBack);
+        assertEquals(before, listSegments());
+
+        readBack.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(readBack);
+        assertEquals(1, changedSegments(before, listSegments()));
+        assertEquals(readBack, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_segmentChanged_throwsDataLoadingException() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        Path segment = directory.resolve(listSegments().iterator().next());
+        Files.writeString(segment, " ", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    private SegmentedAddressBookStorage createStorage() {
+        return new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE, false);
+    }
+
+    private Set<String> listSegments() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Returns the number of segments written between two listings of the segment directory.
+     */
+    private static int changedSegments(Set<String> before, Set<String> after) {
+        Set<String> added = new HashSet<>(after);
+        added.removeAll(before);
+        return added.size();
+    }
+}